@@ -16,6 +16,14 @@ dependencies {
     api(libs.kafka.streams)
     api(libs.kafka.streams.testUtils)
     implementation(libs.jool)
+    compileOnly(libs.kafka.schema.registry.client) {
+        exclude(group = "org.apache.kafka") // force usage of OSS kafka-clients
+    }
+    compileOnly(libs.kafka.protobuf.provider) {
+        exclude(group = "org.apache.kafka") // force usage of OSS kafka-clients
+    }
+    compileOnly(libs.avro)
+    compileOnly(libs.protobuf)
 
     testRuntimeOnly(libs.junit.platform.launcher)
     testImplementation(libs.junit.jupiter)
@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import lombok.Getter;
+
+/**
+ * <p>Measures the bytes allocated by the current thread while records are added to any input of a
+ * {@link TestTopology}.</p>
+ * <p>Use like this:</p>
+ * <pre>{@code
+ * try (final AllocationScope scope = testTopology.measureAllocations()) {
+ *     testTopology.input().add(1, "a").add(2, "b");
+ *     scope.expectAllocatedBytesPerRecord(64 * 1024);
+ * }
+ * }</pre>
+ * <p>Only allocations while a record is processed are counted, i.e., from piping the record into the topology until
+ * all resulting output records have been captured. Allocations of the test itself between adding records are not
+ * counted. Measurement stops when the scope is closed.</p>
+ *
+ * @see TestTopology#measureAllocations()
+ */
+public final class AllocationScope implements ProcessingObserver, AutoCloseable {
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final long threadId;
+    private final ProcessingObservers processingObservers;
+    @Getter
+    private long recordCount;
+    private long allocatedBytes;
+    private long bytesBeforeProcessing = -1L;
+
+    AllocationScope(final ProcessingObservers processingObservers) {
+        this.threadMXBean = ThreadAllocations.threadMXBean();
+        this.processingObservers = processingObservers;
+        this.threadId = Thread.currentThread().getId();
+    }
+
+    /**
+     * Get the bytes allocated while processing the records added in this scope.
+     *
+     * @return allocated bytes
+     */
+    public long getAllocatedBytes() {
+        return this.allocatedBytes;
+    }
+
+    /**
+     * Expect that at most the given number of bytes have been allocated in this scope.
+     *
+     * @param maxBytes maximum allocated bytes
+     * @return this scope, so it can be chained.
+     */
+    public AllocationScope expectAllocatedBytes(final long maxBytes) {
+        final long allocatedBytes = this.getAllocatedBytes();
+        if (allocatedBytes > maxBytes) {
+            throw new AssertionError(String.format("Allocated %d bytes for %d records but budget is %d bytes",
+                    allocatedBytes, this.recordCount, maxBytes));
+        }
+        return this;
+    }
+
+    /**
+     * Expect that on average at most the given number of bytes have been allocated per record added to an input in
+     * this scope.
+     *
+     * @param maxBytesPerRecord maximum allocated bytes per record
+     * @return this scope, so it can be chained.
+     */
+    public AllocationScope expectAllocatedBytesPerRecord(final long maxBytesPerRecord) {
+        if (this.recordCount == 0L) {
+            throw new AssertionError("No records have been added to any input in this scope");
+        }
+        final long allocatedBytes = this.getAllocatedBytes();
+        final double bytesPerRecord = (double) allocatedBytes / this.recordCount;
+        if (bytesPerRecord > maxBytesPerRecord) {
+            throw new AssertionError(String.format(
+                    "Allocated %.1f bytes per record (%d bytes for %d records) but budget is %d bytes per record",
+                    bytesPerRecord, allocatedBytes, this.recordCount, maxBytesPerRecord));
+        }
+        return this;
+    }
+
+    @Override
+    public void beforeProcessing() {
+        this.bytesBeforeProcessing = this.threadMXBean.getThreadAllocatedBytes(this.threadId);
+    }
+
+    @Override
+    public void afterProcessing() {
+        if (this.bytesBeforeProcessing >= 0L) {
+            final long bytesAfterProcessing = this.threadMXBean.getThreadAllocatedBytes(this.threadId);
+            this.allocatedBytes += bytesAfterProcessing - this.bytesBeforeProcessing;
+            this.bytesBeforeProcessing = -1L;
+            this.recordCount++;
+        }
+    }
+
+    /**
+     * Stop measuring. Allocated bytes and record count are retained for expectations.
+     */
+    @Override
+    public void close() {
+        this.processingObservers.remove(this);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.specific.SpecificData;
+
+/**
+ * Avro encoders and decoders of {@link BinarySchemas}. Kept separate from {@link BinarySchemas} so that Avro is only
+ * required on the classpath if Avro records are serialized.
+ */
+final class AvroSchemas {
+    private final Map<Long, BinaryMessageDecoder<?>> decoders = new ConcurrentHashMap<>();
+    private final Map<Schema, BinaryMessageEncoder<?>> encoders = new ConcurrentHashMap<>();
+
+    <T> BinaryMessageEncoder<T> getEncoder(final Schema schema) {
+        return (BinaryMessageEncoder<T>) this.encoders.computeIfAbsent(schema, s -> {
+            final GenericData model = getModel(s);
+            this.decoders.putIfAbsent(SchemaNormalization.parsingFingerprint64(s),
+                    new BinaryMessageDecoder<>(model, s));
+            return new BinaryMessageEncoder<>(model, s);
+        });
+    }
+
+    <T> BinaryMessageDecoder<T> findDecoder(final long fingerprint) {
+        return (BinaryMessageDecoder<T>) this.decoders.get(fingerprint);
+    }
+
+    private static GenericData getModel(final Schema schema) {
+        // read specific records if the generated class is available, generic records otherwise
+        final SpecificData specificData = SpecificData.get();
+        return specificData.getClass(schema) == null ? GenericData.get() : specificData;
+    }
+}
@@ -24,30 +24,52 @@
 
 package com.bakdata.fluent_kafka_streams_tests;
 
+import com.bakdata.fluent_kafka_streams_tests.SequenceDiff.Edit;
+import com.bakdata.fluent_kafka_streams_tests.SerializedTable.SerializedKey;
 import com.bakdata.kafka.Preconfigured;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.Serde;
-import org.apache.kafka.streams.TestOutputTopic;
-import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.kstream.WindowedSerdes.SessionWindowedSerde;
+import org.apache.kafka.streams.kstream.WindowedSerdes.TimeWindowedSerde;
 import org.apache.kafka.streams.test.TestRecord;
 
 abstract class BaseOutput<K, V> implements TestOutput<K, V> {
-    private final TopologyTestDriver testDriver;
-    private final TestOutputTopic<K, V> testOutputTopic;
+    private final OutputReader outputReader;
+    private final Deserializer<K> keyDeserializer;
+    private final Deserializer<V> valueDeserializer;
     private final String topic;
     private final SerdeConfig<K, V> serdeConfig;
+    private final OutputListeners outputListeners;
+    private OutputStatistics<K> statistics;
 
-    protected BaseOutput(final TopologyTestDriver testDriver, final String topic, final SerdeConfig<K, V> serdeConfig) {
-        this.testDriver = testDriver;
+    protected BaseOutput(final OutputReader outputReader, final String topic, final SerdeConfig<K, V> serdeConfig,
+            final OutputListeners outputListeners) {
+        this.outputReader = outputReader;
         this.topic = topic;
         this.serdeConfig = serdeConfig;
+        this.outputListeners = outputListeners;
 
-        this.testOutputTopic = this.testDriver.createOutputTopic(this.topic,
-                this.serdeConfig.getKeySerde().deserializer(),
-                serdeConfig.getValueSerde().deserializer()
-        );
+        this.keyDeserializer = this.outputReader.getDeserializer(this.serdeConfig.getKeySerde());
+        this.valueDeserializer = this.outputReader.getDeserializer(this.serdeConfig.getValueSerde());
     }
 
     /**
@@ -153,7 +175,7 @@ abstract class BaseOutput<K, V> implements TestOutput<K, V> {
      */
     @Override
     public TestOutput<K, V> asTable() {
-        return new TableOutput<>(this.testDriver, this.topic, this.serdeConfig);
+        return new TableOutput<>(this.outputReader, this.topic, this.serdeConfig, this.outputListeners);
     }
 
     /**
@@ -164,7 +186,7 @@ abstract class BaseOutput<K, V> implements TestOutput<K, V> {
      */
     @Override
     public TestOutput<K, V> asStream() {
-        return new StreamOutput<>(this.testDriver, this.topic, this.serdeConfig);
+        return new StreamOutput<>(this.outputReader, this.topic, this.serdeConfig, this.outputListeners);
     }
 
     /**
@@ -183,25 +205,385 @@ abstract class BaseOutput<K, V> implements TestOutput<K, V> {
         return list;
     }
 
+    @Override
+    public SerializedExpectation<K, V> expectNextSerializedRecord() {
+        return new SerializedExpectation<>(this.outputReader.read(this.topic), this, this.serdeConfig);
+    }
+
+    @Override
+    public TestOutput<K, V> expectSerializedRecords(final List<KeyValue<K, V>> expectedRecords) {
+        return this.expectSerializedRecords(expectedRecords, this.serdeConfig.getKeySerde().serializer(),
+                this.serdeConfig.getValueSerde().serializer());
+    }
+
+    @Override
+    public <KR, VR> TestOutput<K, V> expectSerializedRecords(final List<KeyValue<KR, VR>> expectedRecords,
+            final Serde<KR> keySerde, final Serde<VR> valueSerde) {
+        return this.expectSerializedRecords(expectedRecords, keySerde.serializer(), valueSerde.serializer());
+    }
+
+    @Override
+    public ProducerRecord<ByteBuffer, ByteBuffer> readOneSerializedRecord() {
+        final ProducerRecord<byte[], byte[]> serializedRecord = this.outputReader.read(this.topic);
+        if (serializedRecord == null) {
+            return null;
+        }
+        return new ProducerRecord<>(this.topic, serializedRecord.partition(), serializedRecord.timestamp(),
+                ByteBuffers.view(serializedRecord.key()), ByteBuffers.view(serializedRecord.value()),
+                serializedRecord.headers());
+    }
+
+    @Override
+    public ProducerRecord<K, V> deserialize(final ProducerRecord<ByteBuffer, ByteBuffer> serializedRecord) {
+        return this.serdeConfig.deserializeViews(serializedRecord);
+    }
+
+    @Override
+    public OutputStatistics<K> stats() {
+        if (this.statistics == null) {
+            this.statistics = new OutputStatistics<>(this.topic, this.serdeConfig.getKeySerde());
+        }
+        ProducerRecord<byte[], byte[]> serializedRecord = this.outputReader.read(this.topic);
+        while (serializedRecord != null) {
+            this.statistics.add(serializedRecord.key(), serializedRecord.value());
+            serializedRecord = this.outputReader.read(this.topic);
+        }
+        return this.statistics;
+    }
+
+    @Override
+    public OutputSubscription subscribe(final Consumer<? super ProducerRecord<K, V>> listener) {
+        return this.outputListeners.subscribe(this.topic, this.serdeConfig, listener);
+    }
+
+    @Override
+    public RetainedOutput<K, V> retain(final RetentionPolicy policy) {
+        final RetainedOutput<K, V> retainedOutput = new RetainedOutput<>(this.topic, this.serdeConfig, policy);
+        retainedOutput.subscribe(this.outputListeners.subscribeSerialized(this.topic, retainedOutput::add));
+        return retainedOutput;
+    }
+
+    @Override
+    public TestOutput<K, V> expectRecordsInAnyOrder(final Collection<KeyValue<K, V>> expectedRecords) {
+        return this.expectInAnyOrder(expectedRecords, false);
+    }
+
+    @Override
+    public TestOutput<K, V> expectContainsExactlyInAnyOrder(final Collection<KeyValue<K, V>> expectedRecords) {
+        return this.expectInAnyOrder(expectedRecords, true);
+    }
+
+    @Override
+    public TestOutput<K, V> expectRecordsInKeyOrder(final List<KeyValue<K, V>> expectedRecords) {
+        final Map<K, KeySequence<V>> sequences = new HashMap<>();
+        for (final KeyValue<K, V> expectedRecord : expectedRecords) {
+            sequences.computeIfAbsent(expectedRecord.key, key -> new KeySequence<>()).expectedValues
+                    .add(expectedRecord.value);
+        }
+        final MismatchReport report = new MismatchReport();
+        for (final ProducerRecord<K, V> producerRecord : this) {
+            final K key = producerRecord.key();
+            final KeySequence<V> sequence = sequences.computeIfAbsent(key, k -> new KeySequence<>());
+            if (sequence.diverged) {
+                continue;
+            }
+            if (sequence.position >= sequence.expectedValues.size()) {
+                report.add("unexpected records", MismatchReport.formatRecord(key, producerRecord.value()));
+                continue;
+            }
+            final V expectedValue = sequence.expectedValues.get(sequence.position);
+            if (!Objects.equals(expectedValue, producerRecord.value())) {
+                sequence.diverged = true;
+                report.add("keys with diverging records", String.format(
+                        "key='%s': expected value '%s' but got '%s' at position %d of the key", key, expectedValue,
+                        producerRecord.value(), sequence.position));
+                continue;
+            }
+            sequence.position++;
+        }
+        sequences.forEach((key, sequence) -> {
+            final int missingCount = sequence.expectedValues.size() - sequence.position;
+            if (!sequence.diverged && missingCount > 0) {
+                report.add("missing records", String.format("key='%s': %d records starting with value '%s'", key,
+                        missingCount, sequence.expectedValues.get(sequence.position)), missingCount);
+            }
+        });
+        report.throwIfNotEmpty("Output does not contain the expected records in key order");
+        return this;
+    }
+
+    @Override
+    public TestOutput<K, V> expectContainsExactly(final List<KeyValue<K, V>> expectedRecords) {
+        final List<KeyValue<K, V>> actualRecords = new ArrayList<>();
+        for (final ProducerRecord<K, V> producerRecord : this) {
+            actualRecords.add(KeyValue.pair(producerRecord.key(), producerRecord.value()));
+        }
+        final List<Edit> edits = SequenceDiff.diff(expectedRecords, actualRecords);
+        if (edits.isEmpty()) {
+            return this;
+        }
+        final int missingCount = edits.stream().mapToInt(Edit::getDeletions).sum();
+        final int unexpectedCount = edits.stream().mapToInt(Edit::getInsertions).sum();
+        final String hunks = SequenceDiff.formatHunks(expectedRecords, actualRecords, edits,
+                record -> MismatchReport.formatRecord(record.key, record.value));
+        throw new AssertionError(String.format("Output does not contain exactly the expected records: "
+                                               + "%d missing, %d unexpected (- expected, + actual)%s", missingCount,
+                unexpectedCount, hunks));
+    }
+
+    @Override
+    public TestOutput<K, V> allSatisfy(final Predicate<? super ProducerRecord<K, V>> predicate) {
+        final MismatchReport report = new MismatchReport();
+        ParallelVerification.verify(this, predicate,
+                producerRecord -> MismatchReport.formatRecord(producerRecord.key(), producerRecord.value()), report);
+        report.throwIfNotEmpty("Not all records satisfy the predicate");
+        return this;
+    }
+
+    @Override
+    public Expectation<K, V> expectAnyRecord(final Predicate<? super ProducerRecord<K, V>> predicate) {
+        long readCount = 0L;
+        ProducerRecord<K, V> producerRecord = this.readOneRecord();
+        while (producerRecord != null) {
+            if (predicate.test(producerRecord)) {
+                return new Expectation<>(producerRecord, this);
+            }
+            readCount++;
+            producerRecord = this.readOneRecord();
+        }
+        throw new AssertionError(
+                String.format("No record satisfying the predicate found in %d records of output %s", readCount,
+                        this.topic));
+    }
+
+    @Override
+    public TestOutput<K, V> expectFirst(final List<KeyValue<K, V>> expectedRecords) {
+        int index = 0;
+        for (final KeyValue<K, V> expectedRecord : expectedRecords) {
+            final ProducerRecord<K, V> producerRecord = this.readOneRecord();
+            if (producerRecord == null) {
+                throw new AssertionError(String.format("Expected %d records but output ended after %d records, "
+                                                       + "first missing record is %s", expectedRecords.size(), index,
+                        MismatchReport.formatRecord(expectedRecord.key, expectedRecord.value)));
+            }
+            if (!Objects.equals(producerRecord.key(), expectedRecord.key)
+                || !Objects.equals(producerRecord.value(), expectedRecord.value)) {
+                throw new AssertionError(String.format("Record %d does not match. Expected %s but got %s", index,
+                        MismatchReport.formatRecord(expectedRecord.key, expectedRecord.value),
+                        MismatchReport.formatRecord(producerRecord.key(), producerRecord.value())));
+            }
+            index++;
+        }
+        return this;
+    }
+
+    @Override
+    public TestOutput<K, V> expectNoRecordMatching(final Predicate<? super ProducerRecord<K, V>> predicate) {
+        long index = 0L;
+        ProducerRecord<K, V> producerRecord = this.readOneRecord();
+        while (producerRecord != null) {
+            if (predicate.test(producerRecord)) {
+                throw new AssertionError(String.format("Record %d satisfies the predicate: %s", index,
+                        MismatchReport.formatRecord(producerRecord.key(), producerRecord.value())));
+            }
+            index++;
+            producerRecord = this.readOneRecord();
+        }
+        return this;
+    }
+
+    @Override
+    public TableDigest tableDigest() {
+        return this.readSerializedTable().getDigest();
+    }
+
+    @Override
+    public TestOutput<K, V> expectTableEquals(final Map<K, V> expectedTable) {
+        final SerializedTable actualTable = this.readSerializedTable();
+        final TableDigest expectedDigest = new TableDigest();
+        for (final Entry<K, V> entry : expectedTable.entrySet()) {
+            // null values denote deleted keys like tombstones in the changelog
+            if (entry.getValue() != null) {
+                expectedDigest.add(TableDigest.hash(this.serdeConfig.serializeKey(this.topic, entry.getKey())),
+                        TableDigest.hash(this.serdeConfig.serializeValue(this.topic, entry.getValue())));
+            }
+        }
+        final TableDigest actualDigest = actualTable.getDigest();
+        if (actualDigest.equals(expectedDigest)) {
+            return this;
+        }
+        final List<Integer> differingBuckets = actualDigest.getDifferingBuckets(expectedDigest);
+        final Set<Integer> bucketsToCompare = new HashSet<>(differingBuckets);
+        final MismatchReport report = new MismatchReport();
+        final Set<SerializedKey> comparedKeys = new HashSet<>();
+        for (final Entry<K, V> entry : expectedTable.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            final SerializedKey key = new SerializedKey(this.serdeConfig.serializeKey(this.topic, entry.getKey()));
+            if (!bucketsToCompare.contains(TableDigest.bucket(key.getHash()))) {
+                continue;
+            }
+            comparedKeys.add(key);
+            final Long actualValueHash = actualTable.getValueHash(key);
+            if (actualValueHash == null) {
+                report.add("missing entries", MismatchReport.formatRecord(entry.getKey(), entry.getValue()));
+            } else if (actualValueHash != TableDigest.hash(this.serdeConfig.serializeValue(this.topic,
+                    entry.getValue()))) {
+                report.add("entries with different values", String.format(
+                        "key='%s': expected value '%s' but got a different value", entry.getKey(), entry.getValue()));
+            }
+        }
+        for (final SerializedKey key : actualTable.getKeys()) {
+            if (bucketsToCompare.contains(TableDigest.bucket(key.getHash())) && !comparedKeys.contains(key)) {
+                report.add("unexpected entries",
+                        String.format("{key='%s'}", this.serdeConfig.deserializeKey(this.topic, key.getBytes())));
+            }
+        }
+        report.throwIfNotEmpty(String.format(
+                "Table does not equal the expected table (%d of %d buckets differ, %d expected and %d actual entries)",
+                differingBuckets.size(), TableDigest.BUCKET_COUNT, expectedDigest.getSize(), actualDigest.getSize()));
+        return this;
+    }
+
+    @Override
+    public TestOutput<K, V> matchesSnapshot(final Path snapshot) {
+        if (Snapshots.isUpdateEnabled()) {
+            return this.writeSnapshot(snapshot);
+        }
+        Snapshots.match(this, snapshot);
+        return this;
+    }
+
+    @Override
+    public TestOutput<K, V> writeSnapshot(final Path snapshot) {
+        Snapshots.write(this, snapshot);
+        return this;
+    }
+
+    @Override
+    public WindowedOutput<K, V> asWindowed(final Duration windowSize) {
+        return this.asWindowed(TimedSerde.unwrap(this.serdeConfig.getKeySerde()), windowSize);
+    }
+
+    @Override
+    public <KR> WindowedOutput<KR, V> asWindowed(final Serde<KR> keySerde, final Duration windowSize) {
+        return new WindowedOutput<>(this.withKeySerde(new TimeWindowedSerde<>(keySerde, windowSize.toMillis())));
+    }
+
+    @Override
+    public WindowedOutput<K, V> asSessionWindowed() {
+        return this.asSessionWindowed(TimedSerde.unwrap(this.serdeConfig.getKeySerde()));
+    }
+
+    @Override
+    public <KR> WindowedOutput<KR, V> asSessionWindowed(final Serde<KR> keySerde) {
+        return new WindowedOutput<>(this.withKeySerde(new SessionWindowedSerde<>(keySerde)));
+    }
+
     // ==================
     // Non-public methods
     // ==================
     protected ProducerRecord<K, V> readFromTestDriver() {
-        // the Expectation implementation requires null if the topic is empty but outputTopic.readRecord() throws a
-        // NoSuchElementException. Thus, we have to check beforehand.
-        if (this.testOutputTopic.isEmpty()) {
+        // the Expectation implementation requires null if the topic is empty
+        final ProducerRecord<byte[], byte[]> serializedRecord = this.outputReader.read(this.topic);
+        if (serializedRecord == null) {
             return null;
         }
-        final TestRecord<K, V> testRecord = this.testOutputTopic.readRecord();
+        final Headers headers = serializedRecord.headers();
+        final K key = this.keyDeserializer.deserialize(this.topic, headers, serializedRecord.key());
+        final V value = this.valueDeserializer.deserialize(this.topic, headers, serializedRecord.value());
+        return new ProducerRecord<>(this.topic, serializedRecord.partition(), serializedRecord.timestamp(), key,
+                value, headers);
+    }
+
+    static <K, V> ProducerRecord<K, V> toProducerRecord(final String topic, final TestRecord<K, V> testRecord) {
         // partition is always 0, see TopologyTestDriver.PARTITION_ID
-        return new ProducerRecord<>(this.topic, 0, testRecord.timestamp(), testRecord.key(), testRecord.value(),
+        return new ProducerRecord<>(topic, 0, testRecord.timestamp(), testRecord.key(), testRecord.value(),
                 testRecord.getHeaders());
     }
 
-    protected abstract <VR, KR> TestOutput<KR, VR> create(TopologyTestDriver testDriver, String topic,
-            SerdeConfig<KR, VR> serdeConfig);
+    private SerializedTable readSerializedTable() {
+        // digest the serialized records while draining them instead of deserializing and serializing them again
+        final SerializedTable table = new SerializedTable();
+        ProducerRecord<byte[], byte[]> serializedRecord = this.outputReader.read(this.topic);
+        while (serializedRecord != null) {
+            table.put(serializedRecord.key(), serializedRecord.value());
+            serializedRecord = this.outputReader.read(this.topic);
+        }
+        return table;
+    }
+
+    private TestOutput<K, V> expectInAnyOrder(final Collection<KeyValue<K, V>> expectedRecords,
+            final boolean exactly) {
+        final Map<KeyValue<K, V>, Long> missing = new HashMap<>();
+        for (final KeyValue<K, V> expectedRecord : expectedRecords) {
+            missing.merge(expectedRecord, 1L, Long::sum);
+        }
+        final MismatchReport report = new MismatchReport();
+        for (final ProducerRecord<K, V> producerRecord : this) {
+            final KeyValue<K, V> actualRecord = KeyValue.pair(producerRecord.key(), producerRecord.value());
+            final Long remaining = missing.remove(actualRecord);
+            if (remaining == null) {
+                if (exactly) {
+                    report.add("unexpected records", MismatchReport.formatRecord(actualRecord.key, actualRecord.value));
+                }
+            } else if (remaining > 1L) {
+                missing.put(actualRecord, remaining - 1L);
+            }
+        }
+        missing.forEach((expectedRecord, occurrences) -> report.add("missing records",
+                MismatchReport.formatRecord(expectedRecord.key, expectedRecord.value, occurrences), occurrences));
+        report.throwIfNotEmpty(exactly ? "Output does not contain exactly the expected records in any order"
+                : "Output does not contain the expected records in any order");
+        return this;
+    }
+
+    private <KR, VR> TestOutput<K, V> expectSerializedRecords(final List<KeyValue<KR, VR>> expectedRecords,
+            final Serializer<KR> keySerializer, final Serializer<VR> valueSerializer) {
+        final MismatchReport report = new MismatchReport();
+        int position = 0;
+        for (final KeyValue<KR, VR> expectedRecord : expectedRecords) {
+            final ProducerRecord<byte[], byte[]> actualRecord = this.outputReader.read(this.topic);
+            if (actualRecord == null) {
+                report.add("missing records", String.format("#%d %s", position,
+                        MismatchReport.formatRecord(expectedRecord.key, expectedRecord.value)));
+            } else {
+                final byte[] expectedKey = keySerializer.serialize(this.topic, expectedRecord.key);
+                final byte[] expectedValue = valueSerializer.serialize(this.topic, expectedRecord.value);
+                if (!Arrays.equals(expectedKey, actualRecord.key())
+                    || !Arrays.equals(expectedValue, actualRecord.value())) {
+                    report.add("records with different bytes", String.format("#%d expected %s but got %s", position,
+                            MismatchReport.formatRecord(expectedRecord.key, expectedRecord.value),
+                            formatSerializedRecord(actualRecord)));
+                }
+            }
+            position++;
+        }
+        for (ProducerRecord<byte[], byte[]> actualRecord = this.outputReader.read(this.topic); actualRecord != null;
+                actualRecord = this.outputReader.read(this.topic)) {
+            report.add("unexpected records", String.format("#%d %s", position, formatSerializedRecord(actualRecord)));
+            position++;
+        }
+        report.throwIfNotEmpty("Output does not contain the expected serialized records");
+        return this;
+    }
+
+    private static String formatSerializedRecord(final ProducerRecord<byte[], byte[]> serializedRecord) {
+        return String.format("{key=%s, value=%s}", MismatchReport.formatBytes(serializedRecord.key()),
+                MismatchReport.formatBytes(serializedRecord.value()));
+    }
+
+    protected abstract <VR, KR> TestOutput<KR, VR> create(OutputReader outputReader, String topic,
+            SerdeConfig<KR, VR> serdeConfig, OutputListeners outputListeners);
 
     private <KR, VR> TestOutput<KR, VR> with(final SerdeConfig<KR, VR> newSerdeConfig) {
-        return this.create(this.testDriver, this.topic, newSerdeConfig);
+        return this.create(this.outputReader, this.topic, newSerdeConfig, this.outputListeners);
+    }
+
+    private static final class KeySequence<V> {
+        private final List<V> expectedValues = new ArrayList<>();
+        private int position;
+        private boolean diverged;
     }
 }
@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.apache.avro.generic.GenericContainer;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * <p>Serde for Avro records that does not require a schema registry.</p>
+ * <p>Records are written using the Avro single object encoding, i.e., the binary encoding prefixed by a two byte
+ * marker and the 64-bit fingerprint of the writer schema. The schema is resolved from {@link BinarySchemas} instead of
+ * a schema registry. Records are deserialized as specific records if the generated class is available, and as
+ * generic records otherwise.</p>
+ * <p>This serde replaces Confluent's {@code SpecificAvroSerde} and {@code GenericAvroSerde} if
+ * {@link TestTopology#withBinarySerdes()} is used. If it is instantiated by Kafka Streams, it reads the schemas from
+ * {@link BinarySchemas#SCHEMAS_CONFIG}.</p>
+ *
+ * @param <T> type of Avro records
+ */
+public final class BinaryAvroSerde<T> implements Serde<T> {
+    private static final int HEADER_LENGTH = 10;
+    private static final byte MARKER_FIRST = (byte) 0xC3;
+    private static final byte MARKER_SECOND = (byte) 0x01;
+    private BinarySchemas schemas;
+
+    /**
+     * Used by Kafka Streams to instantiate default serdes. The serde is initialized in
+     * {@link #configure(Map, boolean)}.
+     */
+    public BinaryAvroSerde() {
+        this(null);
+    }
+
+    /**
+     * Create a serde that resolves schemas from the given {@code BinarySchemas}.
+     *
+     * @param schemas schemas known to the serde
+     */
+    public BinaryAvroSerde(final BinarySchemas schemas) {
+        this.schemas = schemas;
+    }
+
+    @Override
+    public void configure(final Map<String, ?> configs, final boolean isKey) {
+        if (this.schemas == null) {
+            this.schemas = (BinarySchemas) configs.get(BinarySchemas.SCHEMAS_CONFIG);
+        }
+        if (this.schemas == null) {
+            throw new IllegalStateException("No binary schemas have been configured");
+        }
+    }
+
+    @Override
+    public Serializer<T> serializer() {
+        return new BinaryAvroSerializer<>(this.schemas.getAvroSchemas());
+    }
+
+    @Override
+    public Deserializer<T> deserializer() {
+        return new BinaryAvroDeserializer<>(this.schemas.getAvroSchemas());
+    }
+
+    @RequiredArgsConstructor
+    private static final class BinaryAvroSerializer<T> implements Serializer<T> {
+        private final AvroSchemas avroSchemas;
+
+        @Override
+        public byte[] serialize(final String topic, final T data) {
+            if (data == null) {
+                return null;
+            }
+            if (!(data instanceof GenericContainer)) {
+                throw new SerializationException(String.format("Cannot serialize %s for topic %s: not an Avro record",
+                        data.getClass().getName(), topic));
+            }
+            try {
+                final ByteBuffer encoded =
+                        this.avroSchemas.<T>getEncoder(((GenericContainer) data).getSchema()).encode(data);
+                return ByteBuffers.toArray(encoded);
+            } catch (final IOException e) {
+                throw new SerializationException("Cannot serialize Avro record for topic " + topic, e);
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class BinaryAvroDeserializer<T> implements Deserializer<T> {
+        private final AvroSchemas avroSchemas;
+
+        @Override
+        public T deserialize(final String topic, final byte[] data) {
+            if (data == null) {
+                return null;
+            }
+            if (data.length < HEADER_LENGTH || data[0] != MARKER_FIRST || data[1] != MARKER_SECOND) {
+                throw new SerializationException(
+                        "Cannot deserialize record of topic " + topic + ": not in Avro single object encoding");
+            }
+            final long fingerprint = ByteBuffer.wrap(data, 2, Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).getLong();
+            final BinaryMessageDecoder<T> decoder = this.avroSchemas.findDecoder(fingerprint);
+            if (decoder == null) {
+                throw new SerializationException(String.format(
+                        "Cannot deserialize record of topic %s: unknown schema with fingerprint %d. "
+                        + "Register it using BinarySchemas#registerAvro", topic, fingerprint));
+            }
+            try {
+                return decoder.decode(data);
+            } catch (final IOException e) {
+                throw new SerializationException("Cannot deserialize Avro record of topic " + topic, e);
+            }
+        }
+    }
+}
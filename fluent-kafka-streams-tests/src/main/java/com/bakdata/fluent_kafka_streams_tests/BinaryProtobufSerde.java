@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * <p>Serde for Protobuf messages that does not require a schema registry.</p>
+ * <p>Messages are written in the Protobuf binary encoding, prefixed by a 64-bit hash of the full name of the message
+ * type. The parser of the message type is resolved from {@link BinarySchemas} instead of a schema registry.</p>
+ * <p>This serde replaces Confluent's {@code KafkaProtobufSerde} if {@link TestTopology#withBinarySerdes()} is used. If
+ * it is instantiated by Kafka Streams, it reads the message types from {@link BinarySchemas#SCHEMAS_CONFIG}.</p>
+ *
+ * @param <T> type of Protobuf messages
+ */
+public final class BinaryProtobufSerde<T extends Message> implements Serde<T> {
+    private static final int HEADER_LENGTH = Long.BYTES;
+    private BinarySchemas schemas;
+
+    /**
+     * Used by Kafka Streams to instantiate default serdes. The serde is initialized in
+     * {@link #configure(Map, boolean)}.
+     */
+    public BinaryProtobufSerde() {
+        this(null);
+    }
+
+    /**
+     * Create a serde that resolves message types from the given {@code BinarySchemas}.
+     *
+     * @param schemas message types known to the serde
+     */
+    public BinaryProtobufSerde(final BinarySchemas schemas) {
+        this.schemas = schemas;
+    }
+
+    @Override
+    public void configure(final Map<String, ?> configs, final boolean isKey) {
+        if (this.schemas == null) {
+            this.schemas = (BinarySchemas) configs.get(BinarySchemas.SCHEMAS_CONFIG);
+        }
+        if (this.schemas == null) {
+            throw new IllegalStateException("No binary schemas have been configured");
+        }
+    }
+
+    @Override
+    public Serializer<T> serializer() {
+        return new BinaryProtobufSerializer<>(this.schemas.getProtobufTypes());
+    }
+
+    @Override
+    public Deserializer<T> deserializer() {
+        return new BinaryProtobufDeserializer<>(this.schemas.getProtobufTypes());
+    }
+
+    @RequiredArgsConstructor
+    private static final class BinaryProtobufSerializer<T extends Message> implements Serializer<T> {
+        private final ProtobufTypes protobufTypes;
+
+        @Override
+        public byte[] serialize(final String topic, final T data) {
+            if (data == null) {
+                return null;
+            }
+            final long fingerprint = this.protobufTypes.getFingerprint(data);
+            final int size = data.getSerializedSize();
+            final byte[] bytes = new byte[HEADER_LENGTH + size];
+            ByteBuffer.wrap(bytes).putLong(fingerprint);
+            try {
+                // write the message directly behind the header instead of copying its byte array
+                final CodedOutputStream output = CodedOutputStream.newInstance(bytes, HEADER_LENGTH, size);
+                data.writeTo(output);
+                output.checkNoSpaceLeft();
+            } catch (final IOException e) {
+                throw new SerializationException("Cannot serialize Protobuf message for topic " + topic, e);
+            }
+            return bytes;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class BinaryProtobufDeserializer<T extends Message> implements Deserializer<T> {
+        private final ProtobufTypes protobufTypes;
+
+        @Override
+        public T deserialize(final String topic, final byte[] data) {
+            if (data == null) {
+                return null;
+            }
+            if (data.length < HEADER_LENGTH) {
+                throw new SerializationException(
+                        "Cannot deserialize record of topic " + topic + ": missing message type fingerprint");
+            }
+            final long fingerprint = ByteBuffer.wrap(data).getLong();
+            final Parser<T> parser = this.protobufTypes.findParser(fingerprint);
+            if (parser == null) {
+                throw new SerializationException(String.format(
+                        "Cannot deserialize record of topic %s: unknown message type with fingerprint %d. "
+                        + "Register it using BinarySchemas#registerProtobuf", topic, fingerprint));
+            }
+            try {
+                return parser.parseFrom(data, HEADER_LENGTH, data.length - HEADER_LENGTH);
+            } catch (final InvalidProtocolBufferException e) {
+                throw new SerializationException("Cannot deserialize Protobuf message of topic " + topic, e);
+            }
+        }
+    }
+}
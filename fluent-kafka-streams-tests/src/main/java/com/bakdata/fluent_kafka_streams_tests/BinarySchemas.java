@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import com.google.protobuf.Message;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.streams.StreamsConfig;
+
+/**
+ * <p>Avro schemas and Protobuf message types known to {@link BinaryAvroSerde} and {@link BinaryProtobufSerde}.</p>
+ * <p>Binary serdes prefix each record with a fingerprint of its schema instead of a schema registry id. Schemas are
+ * registered when a record is serialized for the first time, so that records produced in the same
+ * {@link TestTopology} can always be deserialized. Schemas of records that are deserialized before any record of the
+ * same schema has been serialized, e.g., records piped as raw bytes, need to be registered up front.</p>
+ * <p>Passed to the topology and its serdes by {@link TestTopology#withBinarySerdes(BinarySchemas)}. Avro and
+ * Protobuf are only required on the classpath if records of the respective format are serialized.</p>
+ */
+public final class BinarySchemas {
+    /**
+     * Property under which the schemas are passed to the topology and its serdes.
+     */
+    public static final String SCHEMAS_CONFIG = "fluent.kafka.streams.tests.binary.schemas";
+    private static final String SPECIFIC_AVRO_SERDE = "io.confluent.kafka.streams.serdes.avro.SpecificAvroSerde";
+    private static final String GENERIC_AVRO_SERDE = "io.confluent.kafka.streams.serdes.avro.GenericAvroSerde";
+    private static final String PROTOBUF_SERDE = "io.confluent.kafka.streams.serdes.protobuf.KafkaProtobufSerde";
+    private AvroSchemas avroSchemas;
+    private ProtobufTypes protobufTypes;
+
+    /**
+     * Register Avro schemas so that records written with them can be deserialized.
+     *
+     * @param schemas Avro schemas
+     * @return this
+     */
+    public BinarySchemas registerAvro(final Schema... schemas) {
+        final AvroSchemas avro = this.getAvroSchemas();
+        for (final Schema schema : schemas) {
+            avro.getEncoder(schema);
+        }
+        return this;
+    }
+
+    /**
+     * Register Protobuf message types so that records of these types can be deserialized.
+     *
+     * @param defaultInstances default instances of the message types, e.g., {@code Person.getDefaultInstance()}
+     * @return this
+     */
+    public BinarySchemas registerProtobuf(final Message... defaultInstances) {
+        final ProtobufTypes protobuf = this.getProtobufTypes();
+        for (final Message defaultInstance : defaultInstances) {
+            protobuf.getFingerprint(defaultInstance);
+        }
+        return this;
+    }
+
+    /**
+     * Replaces Confluent Avro and Protobuf default serdes in the given properties by their binary counterpart.
+     *
+     * @param properties properties of a topology
+     */
+    static void replaceDefaultSerdes(final Map<String, Object> properties) {
+        replaceDefaultSerde(properties, StreamsConfig.DEFAULT_KEY_SERDE_CLASS_CONFIG);
+        replaceDefaultSerde(properties, StreamsConfig.DEFAULT_VALUE_SERDE_CLASS_CONFIG);
+    }
+
+    /**
+     * Replaces a Confluent Avro or Protobuf serde by its binary counterpart.
+     *
+     * @param serde serde to replace
+     * @param schemas schemas used by the binary serde. If {@code null}, the serde is not replaced.
+     * @param <T> type of data
+     * @return binary serde or the original serde if it is not a Confluent Avro or Protobuf serde
+     */
+    static <T> Serde<T> replace(final Serde<T> serde, final BinarySchemas schemas) {
+        if (serde == null || schemas == null) {
+            return serde;
+        }
+        final Class<?> replacement = findReplacement(serde.getClass().getName());
+        if (BinaryAvroSerde.class.equals(replacement)) {
+            return new BinaryAvroSerde<>(schemas);
+        }
+        if (BinaryProtobufSerde.class.equals(replacement)) {
+            return (Serde<T>) (Serde<?>) new BinaryProtobufSerde<>(schemas);
+        }
+        return serde;
+    }
+
+    synchronized AvroSchemas getAvroSchemas() {
+        if (this.avroSchemas == null) {
+            this.avroSchemas = new AvroSchemas();
+        }
+        return this.avroSchemas;
+    }
+
+    synchronized ProtobufTypes getProtobufTypes() {
+        if (this.protobufTypes == null) {
+            this.protobufTypes = new ProtobufTypes();
+        }
+        return this.protobufTypes;
+    }
+
+    private static void replaceDefaultSerde(final Map<String, Object> properties, final String defaultSerdeConfig) {
+        final Object defaultSerde = properties.get(defaultSerdeConfig);
+        if (defaultSerde == null) {
+            return;
+        }
+        final String className = defaultSerde instanceof Class ? ((Class<?>) defaultSerde).getName()
+                : defaultSerde.toString();
+        final Class<?> replacement = findReplacement(className);
+        if (replacement != null) {
+            properties.put(defaultSerdeConfig, replacement);
+        }
+    }
+
+    private static Class<?> findReplacement(final String serdeClassName) {
+        switch (serdeClassName) {
+            case SPECIFIC_AVRO_SERDE:
+            case GENERIC_AVRO_SERDE:
+                return BinaryAvroSerde.class;
+            case PROTOBUF_SERDE:
+                return BinaryProtobufSerde.class;
+            default:
+                return null;
+        }
+    }
+}
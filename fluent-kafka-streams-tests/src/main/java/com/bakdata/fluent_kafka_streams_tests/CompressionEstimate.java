@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.nio.ByteBuffer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.compress.Compression;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.record.CompressionType;
+import org.apache.kafka.common.record.MemoryRecords;
+import org.apache.kafka.common.record.MemoryRecordsBuilder;
+import org.apache.kafka.common.record.TimestampType;
+
+/**
+ * <p>Estimated size of the records of a topic if produced with a compression codec.</p>
+ * <p>Records are appended to simulated producer batches built with the codecs of kafka-clients. A batch is closed
+ * once it reaches the batch size or when estimates are queried, like a producer flush on commit.</p>
+ *
+ * @see TopicPayloadStatistics#getCompressionEstimate(CompressionType)
+ */
+@Getter
+public final class CompressionEstimate {
+    private final CompressionType compressionType;
+    @Getter(AccessLevel.NONE)
+    private final Compression compression;
+    @Getter(AccessLevel.NONE)
+    private final int batchSize;
+    @Getter(AccessLevel.NONE)
+    private MemoryRecordsBuilder openBatch;
+    @Getter(AccessLevel.NONE)
+    private RuntimeException failure;
+    private long batchCount;
+    private long recordCount;
+    /**
+     * Size of all closed batches before compression, including batch and record overhead.
+     */
+    private long uncompressedBytes;
+    /**
+     * Size of all closed batches after compression, including batch and record overhead.
+     */
+    private long compressedBytes;
+    /**
+     * Time spent building and compressing batches on the thread reading the output.
+     */
+    private long compressionNanos;
+
+    CompressionEstimate(final CompressionType compressionType, final int batchSize) {
+        this.compressionType = compressionType;
+        this.compression = Compression.of(compressionType).build();
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Check whether the codec could be used in this JVM. Some codecs rely on native libraries that might not be
+     * available on every platform.
+     *
+     * @return true if records could be compressed with this codec
+     */
+    public boolean isAvailable() {
+        return this.failure == null;
+    }
+
+    /**
+     * Get the ratio of uncompressed to compressed batch size.
+     *
+     * @return compression ratio, {@code 1.0} if no batches have been closed
+     */
+    public double getCompressionRatio() {
+        return this.compressedBytes == 0L ? 1.0 : (double) this.uncompressedBytes / this.compressedBytes;
+    }
+
+    /**
+     * Get the average compressed size of a record, including its share of batch overhead.
+     *
+     * @return compressed bytes per record, {@code NaN} if no records have been appended
+     */
+    public double getCompressedBytesPerRecord() {
+        return (double) this.compressedBytes / this.recordCount;
+    }
+
+    @Override
+    public String toString() {
+        if (!this.isAvailable()) {
+            return String.format("%s unavailable: %s", this.compressionType, this.failure);
+        }
+        return String.format("%s{batches=%d, compressed=%d bytes, ratio=%.2f, time=%.3fms}", this.compressionType,
+                this.batchCount, this.compressedBytes, this.getCompressionRatio(), this.compressionNanos / 1.0e6);
+    }
+
+    void append(final ProducerRecord<byte[], byte[]> producerRecord) {
+        if (!this.isAvailable()) {
+            return;
+        }
+        final long timestamp = producerRecord.timestamp() == null ? 0L : producerRecord.timestamp();
+        final Header[] headers = producerRecord.headers().toArray();
+        final long start = System.nanoTime();
+        try {
+            if (this.openBatch != null
+                && !this.openBatch.hasRoomFor(timestamp, producerRecord.key(), producerRecord.value(), headers)) {
+                this.closeBatch();
+            }
+            if (this.openBatch == null) {
+                // like the producer, batches are built in a buffer of batch size that grows for large records
+                this.openBatch = MemoryRecords.builder(ByteBuffer.allocate(this.batchSize), this.compression,
+                        TimestampType.CREATE_TIME, 0L);
+            }
+            this.openBatch.append(timestamp, producerRecord.key(), producerRecord.value(), headers);
+            this.recordCount++;
+        } catch (final KafkaException | LinkageError e) {
+            this.fail(e);
+        }
+        this.compressionNanos += System.nanoTime() - start;
+    }
+
+    void flush() {
+        if (this.openBatch == null) {
+            return;
+        }
+        final long start = System.nanoTime();
+        try {
+            this.closeBatch();
+        } catch (final KafkaException | LinkageError e) {
+            this.fail(e);
+        }
+        this.compressionNanos += System.nanoTime() - start;
+    }
+
+    private void closeBatch() {
+        final MemoryRecords batch = this.openBatch.build();
+        this.uncompressedBytes += this.openBatch.uncompressedBytesWritten();
+        this.compressedBytes += batch.sizeInBytes();
+        this.batchCount++;
+        this.openBatch = null;
+    }
+
+    private void fail(final Throwable cause) {
+        this.failure = new UnsupportedOperationException("Cannot compress records with " + this.compressionType,
+                cause);
+        this.openBatch = null;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+/**
+ * Count-min sketch estimating the frequency of elements. Estimates never underestimate the true frequency and
+ * overestimate it by at most 0.04% of all added elements with a probability of 98%.
+ */
+class CountMinSketch {
+    private static final int DEPTH = 4;
+    private static final int WIDTH = 1 << 13;
+    private final long[][] counters = new long[DEPTH][WIDTH];
+
+    /**
+     * Adds an element and returns its updated frequency estimate.
+     *
+     * @param hash 64-bit hash of the element
+     * @return estimated frequency of the element
+     */
+    long add(final long hash) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            final int column = column(hash, row);
+            this.counters[row][column]++;
+            estimate = Math.min(estimate, this.counters[row][column]);
+        }
+        return estimate;
+    }
+
+    long estimate(final long hash) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, this.counters[row][column(hash, row)]);
+        }
+        return estimate;
+    }
+
+    private static int column(final long hash, final int row) {
+        // Kirsch-Mitzenmacher: derive independent hash functions from two halves of one hash
+        final int first = (int) hash;
+        final int second = (int) (hash >>> Integer.SIZE);
+        return (first + row * second) & (WIDTH - 1);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import lombok.experimental.UtilityClass;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.utils.ByteUtils;
+import org.apache.kafka.common.utils.Utils;
+
+/**
+ * Sizes of headers in the Kafka record batch format, where each header is written as a varint-prefixed UTF-8 key
+ * followed by a varint-prefixed value.
+ */
+@UtilityClass
+class HeaderSizes {
+
+    /**
+     * Computes the encoded size of a header.
+     *
+     * @param header header to measure
+     * @return encoded bytes of key and value
+     */
+    static int sizeOf(final Header header) {
+        return sizeOfKey(header.key()) + sizeOfValue(header.value());
+    }
+
+    static int sizeOfKey(final String key) {
+        final int keySize = Utils.utf8Length(key);
+        return ByteUtils.sizeOfVarint(keySize) + keySize;
+    }
+
+    static int sizeOfValue(final byte[] value) {
+        // null values are encoded as length -1
+        return value == null ? ByteUtils.sizeOfVarint(-1) : ByteUtils.sizeOfVarint(value.length) + value.length;
+    }
+}
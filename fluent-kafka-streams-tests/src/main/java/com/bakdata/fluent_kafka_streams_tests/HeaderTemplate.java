@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+
+/**
+ * <p>Immutable headers that can be shared by many input records, e.g., tracing headers.</p>
+ * <p>Header keys and values are copied once when the template is created. Records added with a template share its
+ * header instances instead of building and encoding headers for each record. Use like this:
+ * {@code myInput.attachHeaders(HeaderTemplate.empty().with("trace", "abc")).add(myValue)}.</p>
+ *
+ * @see TestInput#attachHeaders(HeaderTemplate)
+ */
+@Getter
+public final class HeaderTemplate {
+    private static final HeaderTemplate EMPTY = new HeaderTemplate(new Header[0]);
+    @Getter(AccessLevel.NONE)
+    private final Header[] headerArray;
+    /**
+     * Read-only view of the headers. Adding or removing headers throws an {@link IllegalStateException}.
+     */
+    private final Headers headers;
+    /**
+     * Encoded size of all header keys and values in the Kafka record batch format.
+     */
+    private final int serializedSize;
+
+    private HeaderTemplate(final Header[] headerArray) {
+        this.headerArray = headerArray;
+        final RecordHeaders recordHeaders = new RecordHeaders(headerArray);
+        recordHeaders.setReadOnly();
+        this.headers = recordHeaders;
+        int size = 0;
+        for (final Header header : headerArray) {
+            size += HeaderSizes.sizeOf(header);
+        }
+        this.serializedSize = size;
+    }
+
+    /**
+     * Get a template without headers.
+     *
+     * @return empty template
+     */
+    public static HeaderTemplate empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Create a template containing a snapshot of the given headers.
+     *
+     * @param headers headers to copy
+     * @return template with the given headers
+     */
+    public static HeaderTemplate of(final Iterable<Header> headers) {
+        final List<Header> copies = new ArrayList<>();
+        for (final Header header : headers) {
+            copies.add(copy(header.key(), header.value()));
+        }
+        return new HeaderTemplate(copies.toArray(new Header[0]));
+    }
+
+    /**
+     * Create a template with an additional header.
+     *
+     * @param key key of the header
+     * @param value value of the header, may be {@code null}
+     * @return Copy of current {@code HeaderTemplate} with the header appended
+     */
+    public HeaderTemplate with(final String key, final byte[] value) {
+        final Header[] newHeaders = Arrays.copyOf(this.headerArray, this.headerArray.length + 1);
+        newHeaders[this.headerArray.length] = copy(key, value);
+        return new HeaderTemplate(newHeaders);
+    }
+
+    /**
+     * Create a template with an additional header whose value is encoded as UTF-8.
+     *
+     * @param key key of the header
+     * @param value value of the header
+     * @return Copy of current {@code HeaderTemplate} with the header appended
+     */
+    public HeaderTemplate with(final String key, final String value) {
+        return this.with(key, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String toString() {
+        return "HeaderTemplate{headers=" + Arrays.toString(this.headerArray) + ", serializedSize="
+               + this.serializedSize + "}";
+    }
+
+    private static Header copy(final String key, final byte[] value) {
+        return new RecordHeader(key, value == null ? null : value.clone());
+    }
+}
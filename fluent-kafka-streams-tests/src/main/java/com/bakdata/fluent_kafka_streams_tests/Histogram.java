@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.util.Arrays;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * <p>Histogram of non-negative values with constant memory footprint.</p>
+ * <p>Values are recorded into log-linear buckets, similar to an HDR histogram, such that each recorded value can be
+ * reconstructed with a relative error of less than 1.6%. Count, minimum, maximum, and total are exact.</p>
+ */
+@Getter
+public final class Histogram {
+    private static final int LINEAR_BUCKETS = 128;
+    private static final int SUB_BUCKETS = LINEAR_BUCKETS / 2;
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKETS);
+    private static final int BUCKET_COUNT = LINEAR_BUCKETS + (Long.SIZE - SUB_BUCKET_BITS - 2) * SUB_BUCKETS;
+    @Getter(AccessLevel.NONE)
+    private final long[] buckets = new long[BUCKET_COUNT];
+    private long count;
+    private long total;
+    private long min;
+    private long max;
+
+    /**
+     * Get the arithmetic mean of all recorded values.
+     *
+     * @return mean of all recorded values or {@code 0} if no values have been recorded
+     */
+    public double getMean() {
+        return this.count == 0 ? 0.0 : (double) this.total / this.count;
+    }
+
+    /**
+     * Get the value at the given percentile. The returned value is the upper bound of the bucket containing the
+     * percentile, capped by the maximum recorded value.
+     *
+     * @param percentile percentile between {@code 0} and {@code 100}
+     * @return value at the given percentile or {@code 0} if no values have been recorded
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100 but was " + percentile);
+        }
+        if (this.count == 0) {
+            return 0L;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * this.count));
+        long seen = 0L;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            seen += this.buckets[index];
+            if (seen >= rank) {
+                return Math.max(this.min, Math.min(this.max, upperBound(index)));
+            }
+        }
+        return this.max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Histogram{count=%d, min=%d, mean=%.2f, p50=%d, p99=%d, max=%d}", this.count, this.min,
+                this.getMean(), this.getValueAtPercentile(50.0), this.getValueAtPercentile(99.0), this.max);
+    }
+
+    void record(final long value) {
+        if (value < 0L) {
+            throw new IllegalArgumentException("Histogram only supports non-negative values but got " + value);
+        }
+        this.buckets[bucketIndex(value)]++;
+        this.min = this.count == 0 ? value : Math.min(this.min, value);
+        this.max = Math.max(this.max, value);
+        this.count++;
+        this.total += value;
+    }
+
+    void reset() {
+        Arrays.fill(this.buckets, 0L);
+        this.count = 0L;
+        this.total = 0L;
+        this.min = 0L;
+        this.max = 0L;
+    }
+
+    private static int bucketIndex(final long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        // shift such that the remaining value lies within [SUB_BUCKETS, LINEAR_BUCKETS)
+        final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    private static long upperBound(final int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        final int shift = (index - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+        final long subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
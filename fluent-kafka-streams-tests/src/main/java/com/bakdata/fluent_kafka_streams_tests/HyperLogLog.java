@@ -0,0 +1,63 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+/**
+ * HyperLogLog sketch estimating the number of distinct elements with a relative standard error of about 0.8%
+ * using 16 KiB of memory.
+ */
+class HyperLogLog {
+    private static final int PRECISION = 14;
+    private static final int REGISTER_COUNT = 1 << PRECISION;
+    private static final double ALPHA = 0.7213 / (1.0 + 1.079 / REGISTER_COUNT);
+    private final byte[] registers = new byte[REGISTER_COUNT];
+
+    void add(final long hash) {
+        final int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        // guard bit ensures that the rank is bounded even if all remaining bits are zero
+        final long remaining = (hash << PRECISION) | (1L << (PRECISION - 1));
+        final byte rank = (byte) (Long.numberOfLeadingZeros(remaining) + 1);
+        if (rank > this.registers[index]) {
+            this.registers[index] = rank;
+        }
+    }
+
+    long estimate() {
+        double sum = 0.0;
+        int zeroRegisters = 0;
+        for (final byte register : this.registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeroRegisters++;
+            }
+        }
+        final double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        if (estimate <= 2.5 * REGISTER_COUNT && zeroRegisters > 0) {
+            // linear counting is more accurate for small cardinalities
+            return Math.round(REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeroRegisters));
+        }
+        return Math.round(estimate);
+    }
+}
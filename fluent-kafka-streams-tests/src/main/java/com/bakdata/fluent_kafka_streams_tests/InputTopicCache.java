@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+
+/**
+ * <p>Memoizes the {@link TestInputTopic} instances of a run of a {@link TestTopology}.</p>
+ * <p>A {@link TestInput} is created for each call of {@link TestTopology#input(String)} and each change of serdes or
+ * types. Input topics are shared per topic and serdes, which are compared by identity, so that tests switching serdes
+ * or reopening inputs in a loop do not create new input topics and serializers each time. Records added to a shared
+ * input topic always carry an explicit timestamp, so its internal clock is never used.</p>
+ */
+@RequiredArgsConstructor
+class InputTopicCache {
+    private final TopologyTestDriver testDriver;
+    private final Map<CacheKey, TestInputTopic<?, ?>> inputTopics = new HashMap<>();
+
+    <K, V> TestInputTopic<K, V> get(final String topic, final SerdeConfig<K, V> serdeConfig) {
+        final Serde<K> keySerde = serdeConfig.getKeySerde();
+        final Serde<V> valueSerde = serdeConfig.getValueSerde();
+        return (TestInputTopic<K, V>) this.inputTopics.computeIfAbsent(new CacheKey(topic, keySerde, valueSerde),
+                key -> this.testDriver.createInputTopic(topic, keySerde.serializer(), valueSerde.serializer()));
+    }
+
+    TestInputTopic<ByteBuffer, ByteBuffer> getSerialized(final String topic) {
+        return (TestInputTopic<ByteBuffer, ByteBuffer>) this.inputTopics.computeIfAbsent(
+                new CacheKey(topic, null, null),
+                key -> this.testDriver.createInputTopic(topic, new ByteBufferViewSerializer(),
+                        new ByteBufferViewSerializer()));
+    }
+
+    void clear() {
+        this.inputTopics.clear();
+    }
+
+    private static final class ByteBufferViewSerializer implements Serializer<ByteBuffer> {
+        @Override
+        public byte[] serialize(final String topic, final ByteBuffer data) {
+            return ByteBuffers.toArray(data);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class CacheKey {
+        private final String topic;
+        private final Serde<?> keySerde;
+        private final Serde<?> valueSerde;
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            final CacheKey other = (CacheKey) o;
+            return this.topic.equals(other.topic) && this.keySerde == other.keySerde
+                   && this.valueSerde == other.valueSerde;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * this.topic.hashCode() + System.identityHashCode(this.keySerde))
+                   + System.identityHashCode(this.valueSerde);
+        }
+    }
+}
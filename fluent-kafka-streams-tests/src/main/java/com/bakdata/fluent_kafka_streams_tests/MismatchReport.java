@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Collects mismatches of a bulk assertion by category. Only the first few examples of each category are kept, so
+ * that failure messages stay readable and memory consumption is bounded for outputs with millions of records.
+ */
+class MismatchReport {
+    static final int MAX_EXAMPLES = 10;
+    private static final int MAX_FORMATTED_BYTES = 32;
+    private final Map<String, Category> categories = new LinkedHashMap<>();
+
+    static String formatRecord(final Object key, final Object value) {
+        return String.format("{key='%s', value='%s'}", key, value);
+    }
+
+    static String formatRecord(final Object key, final Object value, final long occurrences) {
+        final String formattedRecord = formatRecord(key, value);
+        return occurrences == 1L ? formattedRecord : String.format("%s (%dx)", formattedRecord, occurrences);
+    }
+
+    static String formatBytes(final byte[] bytes) {
+        if (bytes == null) {
+            return "null";
+        }
+        final int shown = Math.min(bytes.length, MAX_FORMATTED_BYTES);
+        final StringBuilder builder = new StringBuilder("0x");
+        for (int i = 0; i < shown; i++) {
+            builder.append(String.format("%02x", bytes[i]));
+        }
+        if (shown < bytes.length) {
+            builder.append("...");
+        }
+        return builder.append(String.format(" (%d bytes)", bytes.length)).toString();
+    }
+
+    void add(final String category, final String example) {
+        this.add(category, example, 1L);
+    }
+
+    void add(final String category, final String example, final long occurrences) {
+        final Category mismatches = this.categories.computeIfAbsent(category, name -> new Category());
+        mismatches.count += occurrences;
+        if (mismatches.examples.size() < MAX_EXAMPLES) {
+            mismatches.examples.add(example);
+        }
+    }
+
+    void addAll(final String category, final Collection<String> examples, final long occurrences) {
+        final Category mismatches = this.categories.computeIfAbsent(category, name -> new Category());
+        mismatches.count += occurrences;
+        for (final String example : examples) {
+            if (mismatches.examples.size() >= MAX_EXAMPLES) {
+                break;
+            }
+            mismatches.examples.add(example);
+        }
+    }
+
+    boolean isEmpty() {
+        return this.categories.isEmpty();
+    }
+
+    /**
+     * Throws an {@link AssertionError} summarizing all mismatches if any have been reported.
+     *
+     * @param description description of the failed assertion
+     */
+    void throwIfNotEmpty(final String description) {
+        if (this.isEmpty()) {
+            return;
+        }
+        final StringBuilder message = new StringBuilder(description);
+        for (final Entry<String, Category> entry : this.categories.entrySet()) {
+            message.append(String.format("%n%d %s", entry.getValue().count, entry.getKey()));
+        }
+        for (final Entry<String, Category> entry : this.categories.entrySet()) {
+            final Category category = entry.getValue();
+            message.append(String.format("%n%s (showing %d of %d):", entry.getKey(), category.examples.size(),
+                    category.count));
+            for (final String example : category.examples) {
+                message.append(String.format("%n  %s", example));
+            }
+        }
+        throw new AssertionError(message.toString());
+    }
+
+    private static final class Category {
+        private final List<String> examples = new ArrayList<>();
+        private long count;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import com.bakdata.kafka.Preconfigured;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.serialization.Serde;
+
+/**
+ * <p>Represents all output topics of the tested app via the {@link TestTopology}, read in the order in which the
+ * records have been produced.</p>
+ * <p>Records are read lazily from the {@link org.apache.kafka.streams.TopologyTestDriver}. Just like
+ * {@link TestOutput}, reading a record consumes it, i.e., it is not returned by any other output anymore.</p>
+ * <p>Records produced while processing the same input record are ordered by topic name.</p>
+ *
+ * <p>Note: The MultiplexedOutput is a one-time iterable. Cache it if you need to iterate several times.</p>
+ *
+ * @param <K> the key type of the output topics
+ * @param <V> the value type of the output topics
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class MultiplexedOutput<K, V> implements Iterable<SequencedRecord<K, V>> {
+    private final OutputSequencer sequencer;
+    private final SerdeConfig<K, V> serdeConfig;
+
+    /**
+     * Set new serde for this output.
+     *
+     * @param keySerde The serializer/deserializer to be used for the keys in the output
+     * @param valueSerde The serializer/deserializer to be used for the values in the output
+     * @return Copy of current {@code MultiplexedOutput} with provided serdes
+     */
+    public <KR, VR> MultiplexedOutput<KR, VR> withSerde(final Serde<KR> keySerde, final Serde<VR> valueSerde) {
+        return this.with(this.serdeConfig.withSerde(keySerde, valueSerde));
+    }
+
+    /**
+     * Set new serde for this output. Serdes are configured using properties of the test topology.
+     *
+     * @param keySerde The serializer/deserializer to be used for the keys in the output
+     * @param valueSerde The serializer/deserializer to be used for the values in the output
+     * @return Copy of current {@code MultiplexedOutput} with provided serdes
+     */
+    public <KR, VR> MultiplexedOutput<KR, VR> configureWithSerde(final Preconfigured<? extends Serde<KR>> keySerde,
+            final Preconfigured<? extends Serde<VR>> valueSerde) {
+        return this.with(this.serdeConfig.configureWithSerde(keySerde, valueSerde));
+    }
+
+    /**
+     * <p>Type-casts the key and value to the given types.</p>
+     *
+     * A type-cast is useful if you have general-purpose serde, such as Json or Avro, which is used for different types
+     * in input and output. Thus, instead of unnecessarily overriding the serde, this method just casts the output.
+     *
+     * @param keyType the new key type.
+     * @param valueType the new value type.
+     * @return Copy of current {@code MultiplexedOutput} with provided types
+     */
+    public <KR, VR> MultiplexedOutput<KR, VR> withTypes(final Class<KR> keyType, final Class<VR> valueType) {
+        return this.with(this.serdeConfig.withTypes(keyType, valueType));
+    }
+
+    /**
+     * Reads the next record produced to any output topic.
+     *
+     * @return The earliest produced record that has not been read yet. {@code null} if no more records are present.
+     */
+    public SequencedRecord<K, V> readOneRecord() {
+        final SequencedRecord<byte[], byte[]> serializedRecord = this.sequencer.readNext();
+        if (serializedRecord == null) {
+            return null;
+        }
+        return new SequencedRecord<>(serializedRecord.getSequenceNumber(), serializedRecord.getInputSequenceNumber(),
+                this.serdeConfig.deserialize(serializedRecord.getRecord()));
+    }
+
+    /**
+     * Creates an iterator of {@link SequencedRecord} for all output topics. Records produced after the iterator has
+     * been created are returned as well.
+     */
+    @Override
+    public @NonNull Iterator<SequencedRecord<K, V>> iterator() {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !MultiplexedOutput.this.sequencer.isEmpty();
+            }
+
+            @Override
+            public SequencedRecord<K, V> next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return MultiplexedOutput.this.readOneRecord();
+            }
+        };
+    }
+
+    /**
+     * Convert the output to a {@link java.util.List}.
+     *
+     * @return A {@link java.util.List} representing the output in production order
+     */
+    public List<SequencedRecord<K, V>> toList() {
+        final List<SequencedRecord<K, V>> list = new ArrayList<>();
+        this.iterator().forEachRemaining(list::add);
+        return list;
+    }
+
+    private <KR, VR> MultiplexedOutput<KR, VR> with(final SerdeConfig<KR, VR> newSerdeConfig) {
+        return new MultiplexedOutput<>(this.sequencer, newSerdeConfig);
+    }
+}
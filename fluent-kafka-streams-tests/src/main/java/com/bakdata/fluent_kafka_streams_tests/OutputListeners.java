@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.streams.TopologyTestDriver;
+
+/**
+ * <p>Pushes output records to subscribed listeners after each input record has been processed.</p>
+ * <p>Records of a topic with at least one subscription are read from the {@link TopologyTestDriver} once in
+ * serialized form and then passed to each listener, which deserializes them using its own serdes. Thus, records are
+ * consumed and not returned by any {@link TestOutput} anymore.</p>
+ */
+@RequiredArgsConstructor
+class OutputListeners implements ProcessingObserver {
+    private final OutputReader outputReader;
+    private final Map<String, TopicListeners> listeners = new HashMap<>();
+
+    @Override
+    public void afterProcessing() {
+        for (final TopicListeners topicListeners : List.copyOf(this.listeners.values())) {
+            topicListeners.dispatch();
+        }
+    }
+
+    /**
+     * Subscribes a listener to an output topic. Records that have already been produced but not read yet are
+     * dispatched immediately.
+     *
+     * @param topic output topic to listen to
+     * @param serdeConfig serdes used to deserialize records for this listener
+     * @param listener consumer of deserialized records
+     * @return subscription to cancel listening
+     */
+    <K, V> OutputSubscription subscribe(final String topic, final SerdeConfig<K, V> serdeConfig,
+            final Consumer<? super ProducerRecord<K, V>> listener) {
+        return this.subscribeSerialized(topic,
+                producerRecord -> listener.accept(serdeConfig.deserialize(producerRecord)));
+    }
+
+    /**
+     * Subscribes a listener to the serialized records of an output topic. Records that have already been produced
+     * but not read yet are dispatched immediately.
+     *
+     * @param topic output topic to listen to
+     * @param listener consumer of serialized records
+     * @return subscription to cancel listening
+     */
+    OutputSubscription subscribeSerialized(final String topic,
+            final Consumer<ProducerRecord<byte[], byte[]>> listener) {
+        final TopicListeners topicListeners =
+                this.listeners.computeIfAbsent(topic, t -> new TopicListeners(t, this.outputReader));
+        topicListeners.listeners.add(listener);
+        topicListeners.dispatch();
+        return new OutputSubscription(() -> {
+            topicListeners.listeners.remove(listener);
+            if (topicListeners.listeners.isEmpty()) {
+                this.listeners.remove(topic, topicListeners);
+            }
+        });
+    }
+
+    @RequiredArgsConstructor
+    private static final class TopicListeners {
+        private final String topic;
+        private final OutputReader outputReader;
+        private final List<Consumer<ProducerRecord<byte[], byte[]>>> listeners = new ArrayList<>();
+
+        private void dispatch() {
+            while (!this.listeners.isEmpty() && !this.outputReader.isEmpty(this.topic)) {
+                final ProducerRecord<byte[], byte[]> producerRecord = this.outputReader.read(this.topic);
+                // listeners might unsubscribe while being notified
+                for (final Consumer<ProducerRecord<byte[], byte[]>> listener : List.copyOf(this.listeners)) {
+                    listener.accept(producerRecord);
+                }
+            }
+        }
+    }
+}
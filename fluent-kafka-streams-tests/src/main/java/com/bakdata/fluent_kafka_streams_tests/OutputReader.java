@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.streams.TestOutputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+
+/**
+ * <p>Reads serialized records from the output topics of a {@link TopologyTestDriver}.</p>
+ * <p>All outputs, listeners and multiplexed outputs of a run of a {@link TestTopology} read through the same
+ * instance, so that each record read from the driver can be accounted for in {@link PayloadStatistics} exactly once.
+ * Output topics and deserializers are memoized for the run, so that tests switching serdes or reopening outputs in a
+ * loop do not create them each time. Serdes are compared by identity.</p>
+ */
+@RequiredArgsConstructor
+class OutputReader {
+    private final TopologyTestDriver testDriver;
+    private final PayloadStatistics payloadStatistics;
+    private final Map<String, TestOutputTopic<byte[], byte[]>> outputTopics = new HashMap<>();
+    private final Map<Serde<?>, Deserializer<?>> deserializers = new IdentityHashMap<>();
+    private final Map<String, Long> readCounts = new HashMap<>();
+
+    /**
+     * Reads the next record of a topic.
+     *
+     * @param topic name of topic
+     * @return next serialized record or {@code null} if the topic is empty
+     */
+    ProducerRecord<byte[], byte[]> read(final String topic) {
+        final TestOutputTopic<byte[], byte[]> outputTopic = this.getOutputTopic(topic);
+        // outputTopic.readRecord() throws a NoSuchElementException if the topic is empty
+        if (outputTopic.isEmpty()) {
+            return null;
+        }
+        final ProducerRecord<byte[], byte[]> producerRecord =
+                BaseOutput.toProducerRecord(topic, outputTopic.readRecord());
+        this.readCounts.merge(topic, 1L, Long::sum);
+        if (this.payloadStatistics != null) {
+            this.payloadStatistics.add(producerRecord);
+        }
+        return producerRecord;
+    }
+
+    <T> Deserializer<T> getDeserializer(final Serde<T> serde) {
+        return (Deserializer<T>) this.deserializers.computeIfAbsent(serde, Serde::deserializer);
+    }
+
+    /**
+     * Get the number of records that have been read from a topic by any output.
+     *
+     * @param topic name of topic
+     * @return number of read records
+     */
+    long getReadCount(final String topic) {
+        return this.readCounts.getOrDefault(topic, 0L);
+    }
+
+    long getQueueSize(final String topic) {
+        return this.getOutputTopic(topic).getQueueSize();
+    }
+
+    boolean isEmpty(final String topic) {
+        return this.getOutputTopic(topic).isEmpty();
+    }
+
+    private TestOutputTopic<byte[], byte[]> getOutputTopic(final String topic) {
+        return this.outputTopics.computeIfAbsent(topic,
+                t -> this.testDriver.createOutputTopic(t, new ByteArrayDeserializer(), new ByteArrayDeserializer()));
+    }
+}
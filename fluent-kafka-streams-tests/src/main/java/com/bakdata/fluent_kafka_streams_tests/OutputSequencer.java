@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.streams.TopologyTestDriver;
+
+/**
+ * <p>Tracks which input record produced which records in the output topics of a {@link TestTopology}.</p>
+ * <p>The {@link TopologyTestDriver} stores output records in a separate queue per topic. To restore the production
+ * order across topics, the number of records produced to each topic, i.e., the records read so far plus the queued
+ * records, is recorded before and after each input record is processed. Records produced by the same input record are
+ * ordered by topic name because the driver does not expose their relative order. Records produced between input
+ * records, e.g., by wall-clock punctuators, are attributed to {@link #UNKNOWN_INPUT}.</p>
+ * <p>Memory consumption is proportional to the number of input records that produced records which have not been
+ * read yet.</p>
+ */
+@RequiredArgsConstructor
+class OutputSequencer implements ProcessingObserver {
+    static final long UNKNOWN_INPUT = -1L;
+    private final OutputReader outputReader;
+    private final Collection<String> outputTopics;
+    private final Map<String, TopicSequence> sequences = new TreeMap<>();
+    private long inputSequenceNumber;
+    private long sequenceNumber;
+
+    @Override
+    public void beforeProcessing() {
+        for (final String topic : this.outputTopics) {
+            this.sequences.computeIfAbsent(topic, this::track).beforeProcessing();
+        }
+    }
+
+    @Override
+    public void afterProcessing() {
+        for (final TopicSequence sequence : this.sequences.values()) {
+            sequence.afterProcessing(this.inputSequenceNumber);
+        }
+        this.inputSequenceNumber++;
+    }
+
+    /**
+     * Reads the earliest produced record among all output topics.
+     *
+     * @return earliest produced record or {@code null} if all output topics are empty
+     */
+    SequencedRecord<byte[], byte[]> readNext() {
+        for (final String topic : this.outputTopics) {
+            this.sequences.computeIfAbsent(topic, this::track);
+        }
+        TopicSequence earliest = null;
+        long earliestInput = Long.MAX_VALUE;
+        for (final TopicSequence sequence : this.sequences.values()) {
+            if (sequence.getQueueSize() == 0L) {
+                continue;
+            }
+            final long headInput = sequence.getHeadInputSequenceNumber();
+            if (earliest == null || headInput < earliestInput) {
+                earliest = sequence;
+                earliestInput = headInput;
+            }
+        }
+        if (earliest == null) {
+            return null;
+        }
+        final ProducerRecord<byte[], byte[]> producerRecord = this.outputReader.read(earliest.topic);
+        return new SequencedRecord<>(this.sequenceNumber++, earliestInput, producerRecord);
+    }
+
+    boolean isEmpty() {
+        for (final String topic : this.outputTopics) {
+            if (this.sequences.computeIfAbsent(topic, this::track).getQueueSize() > 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private TopicSequence track(final String topic) {
+        final TopicSequence sequence = new TopicSequence(topic, this.outputReader);
+        // records produced before the topic has been tracked cannot be attributed to an input record
+        sequence.beforeProcessing();
+        return sequence;
+    }
+
+    @RequiredArgsConstructor
+    private static final class TopicSequence {
+        private final String topic;
+        private final OutputReader outputReader;
+        /**
+         * Pairs of input sequence number and the exclusive end offset of the records it produced.
+         */
+        private final Deque<long[]> emissions = new ArrayDeque<>();
+        private long attributedCount;
+
+        private void beforeProcessing() {
+            this.attribute(UNKNOWN_INPUT);
+        }
+
+        private void afterProcessing(final long inputSequenceNumber) {
+            this.attribute(inputSequenceNumber);
+        }
+
+        private void attribute(final long inputSequenceNumber) {
+            // derived from the records read by any output, so that reads between processing do not hide records
+            final long producedCount = this.outputReader.getReadCount(this.topic) + this.getQueueSize();
+            if (producedCount > this.attributedCount) {
+                this.attributedCount = producedCount;
+                this.emissions.addLast(new long[]{inputSequenceNumber, producedCount});
+            }
+        }
+
+        private long getQueueSize() {
+            return this.outputReader.getQueueSize(this.topic);
+        }
+
+        private long getHeadInputSequenceNumber() {
+            final long headOffset = this.outputReader.getReadCount(this.topic);
+            while (!this.emissions.isEmpty() && this.emissions.peekFirst()[1] <= headOffset) {
+                this.emissions.removeFirst();
+            }
+            // records produced since the last input record has been processed have not been attributed yet
+            return this.emissions.isEmpty() ? UNKNOWN_INPUT : this.emissions.peekFirst()[0];
+        }
+    }
+}
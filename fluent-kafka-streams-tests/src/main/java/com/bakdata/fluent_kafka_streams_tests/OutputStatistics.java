@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.utils.Bytes;
+
+/**
+ * <p>Aggregated statistics of the records of a {@link TestOutput}.</p>
+ * <p>Statistics are computed incrementally from the serialized records using probabilistic data structures, so that
+ * memory consumption is bounded independent of the number of records:</p>
+ * <ul>
+ * <li>the number of distinct keys is estimated by a HyperLogLog sketch,</li>
+ * <li>the number of records per key is estimated by a count-min sketch, which never underestimates,</li>
+ * <li>key and value sizes are recorded in a {@link Histogram}.</li>
+ * </ul>
+ * <p>Records with {@code null} keys and tombstones are counted separately and not included in the key and value
+ * statistics, respectively.</p>
+ *
+ * @param <K> the key type of the output
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class OutputStatistics<K> {
+    private static final int HEAVY_KEY_CAPACITY = 16;
+    @Getter(AccessLevel.NONE)
+    private final String topic;
+    @Getter(AccessLevel.NONE)
+    private final Serde<K> keySerde;
+    @Getter(AccessLevel.NONE)
+    private final HyperLogLog distinctKeys = new HyperLogLog();
+    @Getter(AccessLevel.NONE)
+    private final CountMinSketch keyFrequencies = new CountMinSketch();
+    @Getter(AccessLevel.NONE)
+    private final Map<Bytes, Long> heavyKeyCandidates = new HashMap<>();
+    private final Histogram keySizes = new Histogram();
+    private final Histogram valueSizes = new Histogram();
+    private long recordCount;
+    private long nullKeyCount;
+    private long tombstoneCount;
+    @Getter(AccessLevel.NONE)
+    private long heavyKeyThreshold;
+
+    /**
+     * Get the estimated number of distinct non-null keys.
+     *
+     * @return estimated number of distinct keys
+     */
+    public long getDistinctKeyEstimate() {
+        return this.distinctKeys.estimate();
+    }
+
+    /**
+     * Get the estimated number of records with the given key. The estimate is never lower than the true number.
+     *
+     * @param key key to look up. The key is serialized with the key serde of the output.
+     * @return estimated number of records with the given key
+     */
+    public long getRecordCountEstimate(final K key) {
+        final byte[] serializedKey = this.keySerde.serializer().serialize(this.topic, key);
+        if (serializedKey == null) {
+            return this.nullKeyCount;
+        }
+        return this.keyFrequencies.estimate(Hashing.hash64(serializedKey));
+    }
+
+    /**
+     * Get the keys with the most records, ordered descending by their estimated number of records. At most 16 keys
+     * are tracked.
+     *
+     * @return map of keys to their estimated number of records
+     */
+    public Map<K, Long> getHeavyKeys() {
+        final Map<K, Long> heavyKeys = new LinkedHashMap<>();
+        this.heavyKeyCandidates.entrySet().stream()
+                .sorted(Entry.<Bytes, Long>comparingByValue(Comparator.reverseOrder()))
+                .forEachOrdered(entry -> heavyKeys.put(
+                        this.keySerde.deserializer().deserialize(this.topic, entry.getKey().get()), entry.getValue()));
+        return heavyKeys;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("OutputStatistics{topic=%s, records=%d, distinctKeys~%d, nullKeys=%d, tombstones=%d, "
+                             + "keySizes=%s, valueSizes=%s}", this.topic, this.recordCount,
+                this.getDistinctKeyEstimate(), this.nullKeyCount, this.tombstoneCount, this.keySizes,
+                this.valueSizes);
+    }
+
+    void add(final byte[] key, final byte[] value) {
+        this.recordCount++;
+        if (value == null) {
+            this.tombstoneCount++;
+        } else {
+            this.valueSizes.record(value.length);
+        }
+        if (key == null) {
+            this.nullKeyCount++;
+            return;
+        }
+        this.keySizes.record(key.length);
+        final long hash = Hashing.hash64(key);
+        this.distinctKeys.add(hash);
+        this.updateHeavyKeys(key, this.keyFrequencies.add(hash));
+    }
+
+    private void updateHeavyKeys(final byte[] key, final long estimate) {
+        final Bytes wrappedKey = Bytes.wrap(key);
+        if (this.heavyKeyCandidates.containsKey(wrappedKey) || this.heavyKeyCandidates.size() < HEAVY_KEY_CAPACITY) {
+            this.heavyKeyCandidates.put(wrappedKey, estimate);
+            return;
+        }
+        // estimates only grow, so the cached threshold is a lower bound of the lightest candidate
+        if (estimate <= this.heavyKeyThreshold) {
+            return;
+        }
+        final Entry<Bytes, Long> lightest = this.heavyKeyCandidates.entrySet().stream()
+                .min(Entry.comparingByValue())
+                .orElseThrow();
+        this.heavyKeyThreshold = lightest.getValue();
+        if (estimate > lightest.getValue()) {
+            this.heavyKeyCandidates.remove(lightest.getKey());
+            this.heavyKeyCandidates.put(wrappedKey, estimate);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Verifies a predicate on many elements in parallel. Elements are first buffered into fixed-size chunks, which are
+ * then verified on the common {@link java.util.concurrent.ForkJoinPool}. Each chunk keeps only the first few failures,
+ * so the memory used for failures is bounded by the number of chunks.
+ */
+@UtilityClass
+class ParallelVerification {
+    static final int CHUNK_SIZE = 1024;
+    static final String CATEGORY = "records not satisfying the predicate";
+
+    /**
+     * Verifies the predicate on all elements and adds failures to the report.
+     *
+     * @param elements elements to verify, iterated once on the calling thread
+     * @param predicate thread-safe predicate
+     * @param formatter formats a failed element for the report
+     * @param report report to add failures to
+     * @param <T> type of elements
+     */
+    static <T> void verify(final Iterable<? extends T> elements, final Predicate<? super T> predicate,
+            final Function<? super T, String> formatter, final MismatchReport report) {
+        final List<List<T>> chunks = new ArrayList<>();
+        List<T> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (final T element : elements) {
+            if (chunk.size() == CHUNK_SIZE) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>(CHUNK_SIZE);
+            }
+            chunk.add(element);
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        final List<ChunkFailures> failures = IntStream.range(0, chunks.size())
+                .parallel()
+                .mapToObj(index -> verifyChunk((long) index * CHUNK_SIZE, chunks.get(index), predicate, formatter))
+                .collect(Collectors.toList());
+        for (final ChunkFailures chunkFailures : failures) {
+            if (chunkFailures.count > 0L) {
+                report.addAll(CATEGORY, chunkFailures.examples, chunkFailures.count);
+            }
+        }
+    }
+
+    private static <T> ChunkFailures verifyChunk(final long offset, final List<T> chunk,
+            final Predicate<? super T> predicate, final Function<? super T, String> formatter) {
+        final ChunkFailures failures = new ChunkFailures();
+        for (int i = 0; i < chunk.size(); i++) {
+            final T element = chunk.get(i);
+            String failure;
+            try {
+                failure = predicate.test(element) ? null : "";
+            } catch (final RuntimeException e) {
+                failure = " threw " + e;
+            }
+            if (failure != null) {
+                failures.count++;
+                if (failures.examples.size() < MismatchReport.MAX_EXAMPLES) {
+                    failures.examples.add(String.format("#%d %s%s", offset + i, formatter.apply(element), failure));
+                }
+            }
+        }
+        return failures;
+    }
+
+    private static final class ChunkFailures {
+        private final List<String> examples = new ArrayList<>();
+        private long count;
+    }
+}
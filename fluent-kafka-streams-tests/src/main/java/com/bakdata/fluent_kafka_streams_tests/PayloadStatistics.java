@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.apache.kafka.clients.producer.ProducerRecord;
+
+/**
+ * <p>Serialized size and estimated compressed size of records per output topic.</p>
+ * <p>Collected by {@link TestTopology#withPayloadStatistics()}. Records are accounted for when they are read from the
+ * {@link org.apache.kafka.streams.TopologyTestDriver} by any output, listener or multiplexed output of the
+ * {@code TestTopology}, so collecting statistics does not consume any records. Records that have not been read yet
+ * are not included.</p>
+ * <p>Compressed sizes are estimated for each {@link org.apache.kafka.common.record.CompressionType} by appending
+ * records to simulated producer batches. Open batches are closed when compression estimates are queried, like a
+ * producer flush on commit.</p>
+ */
+public final class PayloadStatistics {
+    /**
+     * Property under which the statistics are passed to the topology.
+     */
+    public static final String STATISTICS_CONFIG = "fluent.kafka.streams.tests.payload.statistics";
+    /**
+     * Default {@code batch.size} of Kafka producers.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 16384;
+    private final int batchSize;
+    private final Map<String, TopicPayloadStatistics> topics = new TreeMap<>();
+
+    PayloadStatistics(final int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive but is " + batchSize);
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Get all output topics for which records have been read.
+     *
+     * @return names of topics
+     */
+    public Set<String> getTopics() {
+        return this.topics.keySet();
+    }
+
+    /**
+     * Get the statistics of an output topic.
+     *
+     * @param topic name of the topic
+     * @return statistics of the topic, empty if no records have been read from the topic
+     */
+    public TopicPayloadStatistics getStatistics(final String topic) {
+        final TopicPayloadStatistics statistics = this.topics.get(topic);
+        return statistics == null ? new TopicPayloadStatistics(topic, this.batchSize) : statistics;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("PayloadStatistics{");
+        for (final String topic : this.topics.keySet()) {
+            builder.append(String.format("%n  %s", this.getStatistics(topic)));
+        }
+        return builder.append(String.format("%n}")).toString();
+    }
+
+    void add(final ProducerRecord<byte[], byte[]> producerRecord) {
+        this.topics.computeIfAbsent(producerRecord.topic(), topic -> new TopicPayloadStatistics(topic, this.batchSize))
+                .add(producerRecord);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Notifies all registered {@link ProcessingObserver} like nested scopes: before processing in registration order and
+ * after processing in reverse registration order. Observers registered last therefore enclose only the processing of a
+ * record and none of the work of other observers.
+ */
+class ProcessingObservers implements ProcessingObserver {
+    private final List<ProcessingObserver> observers = new ArrayList<>();
+
+    @Override
+    public void beforeProcessing() {
+        for (final ProcessingObserver observer : this.observers) {
+            observer.beforeProcessing();
+        }
+    }
+
+    @Override
+    public void afterProcessing() {
+        for (int i = this.observers.size() - 1; i >= 0; i--) {
+            this.observers.get(i).afterProcessing();
+        }
+    }
+
+    void add(final ProcessingObserver observer) {
+        this.observers.add(observer);
+    }
+
+    void remove(final ProcessingObserver observer) {
+        this.observers.remove(observer);
+    }
+
+    void clear() {
+        this.observers.clear();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Protobuf parsers of {@link BinarySchemas}. Kept separate from {@link BinarySchemas} so that Protobuf is only
+ * required on the classpath if Protobuf messages are serialized.
+ */
+final class ProtobufTypes {
+    private final Map<Long, Parser<?>> parsers = new ConcurrentHashMap<>();
+    private final Map<Descriptor, Long> fingerprints = new ConcurrentHashMap<>();
+
+    long getFingerprint(final Message message) {
+        return this.fingerprints.computeIfAbsent(message.getDescriptorForType(), descriptor -> {
+            final long fingerprint = Hashing.hash64(descriptor.getFullName().getBytes(StandardCharsets.UTF_8));
+            this.parsers.putIfAbsent(fingerprint, message.getParserForType());
+            return fingerprint;
+        });
+    }
+
+    <T> Parser<T> findParser(final long fingerprint) {
+        return (Parser<T>) this.parsers.get(fingerprint);
+    }
+}
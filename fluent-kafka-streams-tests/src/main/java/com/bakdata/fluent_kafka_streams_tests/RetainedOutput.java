@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import lombok.Getter;
+import org.apache.kafka.clients.producer.ProducerRecord;
+
+/**
+ * <p>Retains records of a {@link TestOutput} according to a {@link RetentionPolicy}.</p>
+ * <p>Records are consumed from the {@link org.apache.kafka.streams.TopologyTestDriver} as soon as they are produced,
+ * so that memory consumption is bounded by the policy independent of the number of produced records. Retained records
+ * are kept in serialized form and only deserialized when accessed.</p>
+ *
+ * @param <K> the key type of the output
+ * @param <V> the value type of the output
+ * @see TestOutput#retain(RetentionPolicy)
+ */
+public final class RetainedOutput<K, V> implements AutoCloseable {
+    private final SerdeConfig<K, V> serdeConfig;
+    private final RetentionPolicy policy;
+    @Getter
+    private final OutputStatistics<K> statistics;
+    private final Deque<ProducerRecord<byte[], byte[]>> lastRecords;
+    private final List<ProducerRecord<byte[], byte[]>> sampledRecords;
+    private final Random random;
+    private OutputSubscription subscription;
+    private long sampledCandidates;
+
+    RetainedOutput(final String topic, final SerdeConfig<K, V> serdeConfig, final RetentionPolicy policy) {
+        this.serdeConfig = serdeConfig;
+        this.policy = policy;
+        this.statistics = new OutputStatistics<>(topic, serdeConfig.getKeySerde());
+        this.lastRecords = new ArrayDeque<>(policy.getLastRecords());
+        this.sampledRecords = new ArrayList<>(policy.getSampleSize());
+        this.random = new Random(policy.getSeed());
+    }
+
+    /**
+     * Get the last retained records, ordered from oldest to newest.
+     *
+     * @return last records as configured by {@link RetentionPolicy#withLastRecords(int)}
+     */
+    public List<ProducerRecord<K, V>> getLastRecords() {
+        return this.deserialize(this.lastRecords);
+    }
+
+    /**
+     * Get a uniform random sample of all records which are not among the last retained records. Sampled records are
+     * not ordered.
+     *
+     * @return sampled records as configured by {@link RetentionPolicy#withSampleSize(int)}
+     */
+    public List<ProducerRecord<K, V>> getSampledRecords() {
+        return this.deserialize(this.sampledRecords);
+    }
+
+    /**
+     * Stop retaining records. Records produced afterwards remain in the output.
+     */
+    @Override
+    public void close() {
+        this.subscription.close();
+    }
+
+    void subscribe(final OutputSubscription outputSubscription) {
+        this.subscription = outputSubscription;
+    }
+
+    void add(final ProducerRecord<byte[], byte[]> serializedRecord) {
+        this.statistics.add(serializedRecord.key(), serializedRecord.value());
+        if (this.policy.getLastRecords() == 0) {
+            this.sample(serializedRecord);
+            return;
+        }
+        if (this.lastRecords.size() == this.policy.getLastRecords()) {
+            this.sample(this.lastRecords.removeFirst());
+        }
+        this.lastRecords.addLast(serializedRecord);
+    }
+
+    private void sample(final ProducerRecord<byte[], byte[]> serializedRecord) {
+        final int sampleSize = this.policy.getSampleSize();
+        if (sampleSize == 0) {
+            return;
+        }
+        this.sampledCandidates++;
+        // Algorithm R: the n-th candidate replaces a random sample with probability sampleSize / n
+        if (this.sampledRecords.size() < sampleSize) {
+            this.sampledRecords.add(serializedRecord);
+            return;
+        }
+        final long index = (long) (this.random.nextDouble() * this.sampledCandidates);
+        if (index < sampleSize) {
+            this.sampledRecords.set((int) index, serializedRecord);
+        }
+    }
+
+    private List<ProducerRecord<K, V>> deserialize(final Collection<ProducerRecord<byte[], byte[]>> serializedRecords) {
+        final List<ProducerRecord<K, V>> records = new ArrayList<>(serializedRecords.size());
+        for (final ProducerRecord<byte[], byte[]> serializedRecord : serializedRecords) {
+            records.add(this.serdeConfig.deserialize(serializedRecord));
+        }
+        return records;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * <p>Defines which records of a {@link TestOutput} are retained by {@link TestOutput#retain(RetentionPolicy)}.</p>
+ * <p>Independent of the policy, {@link OutputStatistics} are computed for all records. Additionally, a policy can
+ * retain</p>
+ * <ul>
+ * <li>the last records in a ring buffer and</li>
+ * <li>a uniform random sample of all other records using reservoir sampling.</li>
+ * </ul>
+ * <p>Usage:</p>
+ * <pre>{@code
+ * RetentionPolicy.keepLast(100).withSampleSize(1000)
+ * }</pre>
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RetentionPolicy {
+    private static final long DEFAULT_SEED = 42L;
+    private final int lastRecords;
+    private final int sampleSize;
+    private final long seed;
+
+    /**
+     * Retain no records but only compute {@link OutputStatistics}.
+     *
+     * @return policy retaining no records
+     */
+    public static RetentionPolicy statsOnly() {
+        return new RetentionPolicy(0, 0, DEFAULT_SEED);
+    }
+
+    /**
+     * Retain the last {@code count} records.
+     *
+     * @param count number of last records to retain
+     * @return policy retaining the last records
+     */
+    public static RetentionPolicy keepLast(final int count) {
+        return statsOnly().withLastRecords(count);
+    }
+
+    /**
+     * Retain a uniform random sample of {@code size} records.
+     *
+     * @param size number of records to sample
+     * @return policy sampling records
+     */
+    public static RetentionPolicy sample(final int size) {
+        return statsOnly().withSampleSize(size);
+    }
+
+    /**
+     * Set the number of last records to retain. If records are sampled as well, only records which are not among the
+     * last records are sampled.
+     *
+     * @param count number of last records to retain
+     * @return Copy of current {@code RetentionPolicy} with provided number of last records
+     */
+    public RetentionPolicy withLastRecords(final int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Number of last records must not be negative but was " + count);
+        }
+        return new RetentionPolicy(count, this.sampleSize, this.seed);
+    }
+
+    /**
+     * Set the number of records to sample.
+     *
+     * @param size number of records to sample
+     * @return Copy of current {@code RetentionPolicy} with provided sample size
+     */
+    public RetentionPolicy withSampleSize(final int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Sample size must not be negative but was " + size);
+        }
+        return new RetentionPolicy(this.lastRecords, size, this.seed);
+    }
+
+    /**
+     * Set the seed of the random number generator used for sampling, so that samples are reproducible.
+     *
+     * @param seed seed of the random number generator
+     * @return Copy of current {@code RetentionPolicy} with provided seed
+     */
+    public RetentionPolicy withSeed(final long seed) {
+        return new RetentionPolicy(this.lastRecords, this.sampleSize, seed);
+    }
+}
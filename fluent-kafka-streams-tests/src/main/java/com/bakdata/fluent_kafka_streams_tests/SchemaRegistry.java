@@ -0,0 +1,211 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import io.confluent.kafka.schemaregistry.ParsedSchema;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import io.confluent.kafka.schemaregistry.testutil.MockSchemaRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * <p>In-memory schema registry backed by a scope of Confluent's {@link MockSchemaRegistry}.</p>
+ * <p>Serdes configured with {@link #getUrl()} share a single client per scope. Registries created with
+ * {@link #shared(String)} are shared by all tests of a JVM, so schemas only need to be registered and parsed once per
+ * test suite. Registries created with {@link #isolated()} use a fresh scope that is dropped on {@link #close()}.</p>
+ * <p>Schemas can be pre-registered from {@code .avsc} and {@code .proto} files. Parsed schemas are cached across
+ * tests and only re-parsed if the file has been modified.</p>
+ * <p>Use like this:</p>
+ * <pre>{@code
+ * private static final SchemaRegistry SCHEMA_REGISTRY = SchemaRegistry.shared("my-app")
+ *         .registerValueSchema("input", Path.of("src/main/avro/Input.avsc"));
+ * private final TestTopology<String, Input> testTopology = new TestTopology<>(app::getTopology, properties)
+ *         .withSchemaRegistry(SCHEMA_REGISTRY);
+ * }</pre>
+ * <p>Requires {@code io.confluent:kafka-schema-registry-client} and, for {@code .proto} files,
+ * {@code io.confluent:kafka-protobuf-provider} on the classpath.</p>
+ *
+ * @see TestTopology#withSchemaRegistry(SchemaRegistry)
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SchemaRegistry implements AutoCloseable {
+    /**
+     * Property used by Confluent serdes to connect to a schema registry.
+     */
+    public static final String URL_CONFIG = "schema.registry.url";
+    private static final String MOCK_URL_PREFIX = "mock://";
+    private static final Map<String, SchemaRegistry> SHARED_REGISTRIES = new ConcurrentHashMap<>();
+    private static final Map<Path, CachedSchema> PARSED_SCHEMAS = new ConcurrentHashMap<>();
+    @Getter
+    private final String scope;
+    private final boolean shared;
+
+    /**
+     * Get the registry of a scope that is shared by all tests of this JVM. Shared registries are never dropped.
+     *
+     * @param scope name of the scope
+     * @return shared registry of the scope
+     */
+    public static SchemaRegistry shared(final String scope) {
+        return SHARED_REGISTRIES.computeIfAbsent(scope, name -> new SchemaRegistry(name, true));
+    }
+
+    /**
+     * Create a registry with a new scope that is not shared with other tests.
+     *
+     * @return isolated registry that is dropped on {@link #close()}
+     */
+    public static SchemaRegistry isolated() {
+        return new SchemaRegistry("fluent-kafka-streams-tests-" + UUID.randomUUID(), false);
+    }
+
+    /**
+     * Get the URL to configure serdes with, i.e., the value of {@value #URL_CONFIG}.
+     *
+     * @return mock URL of the scope
+     */
+    public String getUrl() {
+        return MOCK_URL_PREFIX + this.scope;
+    }
+
+    /**
+     * Get the client used by all serdes configured with {@link #getUrl()}.
+     *
+     * @return client of the scope
+     */
+    public SchemaRegistryClient getClient() {
+        return MockSchemaRegistry.getClientForScope(this.scope);
+    }
+
+    /**
+     * Register a schema for a subject. Registering the same schema again returns the existing id.
+     *
+     * @param subject subject to register the schema for
+     * @param schema schema to register
+     * @return id of the schema
+     */
+    public int register(final String subject, final ParsedSchema schema) {
+        try {
+            return this.getClient().register(subject, schema);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Cannot register schema for subject " + subject, e);
+        } catch (final RestClientException e) {
+            throw new IllegalStateException("Cannot register schema for subject " + subject, e);
+        }
+    }
+
+    /**
+     * Register a schema from an {@code .avsc} or {@code .proto} file for a subject.
+     *
+     * @param subject subject to register the schema for
+     * @param schemaFile file containing the schema
+     * @return id of the schema
+     */
+    public int register(final String subject, final Path schemaFile) {
+        return this.register(subject, parseSchema(schemaFile));
+    }
+
+    /**
+     * Register a key schema from an {@code .avsc} or {@code .proto} file for a topic using the default subject name
+     * {@code <topic>-key}.
+     *
+     * @param topic topic to register the schema for
+     * @param schemaFile file containing the schema
+     * @return this registry, so it can be chained.
+     */
+    public SchemaRegistry registerKeySchema(final String topic, final Path schemaFile) {
+        this.register(topic + "-key", schemaFile);
+        return this;
+    }
+
+    /**
+     * Register a value schema from an {@code .avsc} or {@code .proto} file for a topic using the default subject name
+     * {@code <topic>-value}.
+     *
+     * @param topic topic to register the schema for
+     * @param schemaFile file containing the schema
+     * @return this registry, so it can be chained.
+     */
+    public SchemaRegistry registerValueSchema(final String topic, final Path schemaFile) {
+        this.register(topic + "-value", schemaFile);
+        return this;
+    }
+
+    /**
+     * Drop the scope of an isolated registry. Shared registries are kept.
+     */
+    @Override
+    public void close() {
+        if (!this.shared) {
+            MockSchemaRegistry.dropScope(this.scope);
+        }
+    }
+
+    static ParsedSchema parseSchema(final Path schemaFile) {
+        final Path path = schemaFile.toAbsolutePath().normalize();
+        try {
+            final FileTime lastModified = Files.getLastModifiedTime(path);
+            final CachedSchema cachedSchema = PARSED_SCHEMAS.get(path);
+            if (cachedSchema != null && cachedSchema.lastModified.equals(lastModified)) {
+                return cachedSchema.schema;
+            }
+            final String content = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+            final ParsedSchema schema = parseSchema(path, content);
+            PARSED_SCHEMAS.put(path, new CachedSchema(lastModified, schema));
+            return schema;
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Cannot read schema " + schemaFile, e);
+        }
+    }
+
+    private static ParsedSchema parseSchema(final Path path, final String content) {
+        final String fileName = path.getFileName().toString();
+        if (fileName.endsWith(".avsc")) {
+            return new AvroSchema(content);
+        }
+        if (fileName.endsWith(".proto")) {
+            return ProtobufSchemas.parse(content);
+        }
+        throw new IllegalArgumentException("Unsupported schema file " + path + ". Expected .avsc or .proto");
+    }
+
+    @RequiredArgsConstructor
+    private static final class CachedSchema {
+        private final FileTime lastModified;
+        private final ParsedSchema schema;
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * <p>Computes a minimal edit script between two sequences using the linear-space variant of Myers' diff algorithm
+ * and formats it as hunks similar to a unified diff.</p>
+ * <p>Elements are mapped to integer identifiers upfront so that the algorithm itself only compares integers. Memory
+ * consumption is linear in the length of both sequences. Runtime is proportional to the product of the sequence
+ * length and the number of differences. If the sequences differ too much, the remaining ranges are reported as
+ * replaced entirely, so the edit script might not be minimal.</p>
+ */
+class SequenceDiff {
+    static final int CONTEXT_LINES = 3;
+    static final int MAX_HUNKS = 10;
+    private static final long MAX_COST = 100_000_000L;
+    private final int[] expected;
+    private final int[] actual;
+    private final List<Edit> edits = new ArrayList<>();
+    private long remainingCost = MAX_COST;
+
+    private SequenceDiff(final int[] expected, final int[] actual) {
+        this.expected = expected;
+        this.actual = actual;
+    }
+
+    /**
+     * Computes the edits that transform the expected sequence into the actual sequence.
+     *
+     * @param expected expected sequence
+     * @param actual actual sequence
+     * @param <T> type of elements
+     * @return edits ordered by position
+     */
+    static <T> List<Edit> diff(final List<? extends T> expected, final List<? extends T> actual) {
+        final Map<T, Integer> identifiers = new HashMap<>();
+        final SequenceDiff diff = new SequenceDiff(identify(expected, identifiers), identify(actual, identifiers));
+        diff.compare(0, expected.size(), 0, actual.size());
+        return diff.edits;
+    }
+
+    /**
+     * Formats edits as hunks. Each hunk contains the edited elements, prefixed by {@code -} for expected and {@code +}
+     * for actual elements, surrounded by up to {@value #CONTEXT_LINES} unchanged elements. At most
+     * {@value #MAX_HUNKS} hunks are formatted.
+     *
+     * @param expected expected sequence
+     * @param actual actual sequence
+     * @param edits edits computed by {@link #diff(List, List)}
+     * @param formatter formats a single element
+     * @param <T> type of elements
+     * @return formatted hunks, each line starting with a line separator
+     */
+    static <T> String formatHunks(final List<? extends T> expected, final List<? extends T> actual,
+            final List<Edit> edits, final Function<? super T, String> formatter) {
+        final StringBuilder hunks = new StringBuilder();
+        int hunkCount = 0;
+        int first = 0;
+        while (first < edits.size() && hunkCount < MAX_HUNKS) {
+            int last = first;
+            while (last + 1 < edits.size()
+                   && edits.get(last + 1).getExpectedStart() - edits.get(last).getExpectedEnd() <= 2 * CONTEXT_LINES) {
+                last++;
+            }
+            final Edit firstEdit = edits.get(first);
+            final Edit lastEdit = edits.get(last);
+            final int context = Math.min(CONTEXT_LINES, firstEdit.getExpectedStart());
+            final int expectedStart = firstEdit.getExpectedStart() - context;
+            final int actualStart = firstEdit.getActualStart() - context;
+            final int trailing = Math.min(CONTEXT_LINES, expected.size() - lastEdit.getExpectedEnd());
+            final int expectedEnd = lastEdit.getExpectedEnd() + trailing;
+            final int actualEnd = lastEdit.getActualEnd() + trailing;
+            hunks.append(String.format("%n@@ -%d,%d +%d,%d @@", expectedStart + 1, expectedEnd - expectedStart,
+                    actualStart + 1, actualEnd - actualStart));
+            int position = expectedStart;
+            for (int i = first; i <= last; i++) {
+                final Edit edit = edits.get(i);
+                appendLines(hunks, "  ", expected, position, edit.getExpectedStart(), formatter);
+                appendLines(hunks, "- ", expected, edit.getExpectedStart(), edit.getExpectedEnd(), formatter);
+                appendLines(hunks, "+ ", actual, edit.getActualStart(), edit.getActualEnd(), formatter);
+                position = edit.getExpectedEnd();
+            }
+            appendLines(hunks, "  ", expected, position, expectedEnd, formatter);
+            hunkCount++;
+            first = last + 1;
+        }
+        if (first < edits.size()) {
+            hunks.append(String.format("%n... further differences omitted"));
+        }
+        return hunks.toString();
+    }
+
+    private static <T> void appendLines(final StringBuilder builder, final String prefix,
+            final List<? extends T> elements, final int start, final int end,
+            final Function<? super T, String> formatter) {
+        for (int i = start; i < end; i++) {
+            builder.append(String.format("%n%s%s", prefix, formatter.apply(elements.get(i))));
+        }
+    }
+
+    private static <T> int[] identify(final List<? extends T> elements, final Map<T, Integer> identifiers) {
+        final int[] sequence = new int[elements.size()];
+        int i = 0;
+        for (final T element : elements) {
+            sequence[i] = identifiers.computeIfAbsent(element, e -> identifiers.size());
+            i++;
+        }
+        return sequence;
+    }
+
+    private void compare(final int expectedStart, final int expectedEnd, final int actualStart, final int actualEnd) {
+        int aStart = expectedStart;
+        int bStart = actualStart;
+        int aEnd = expectedEnd;
+        int bEnd = actualEnd;
+        while (aStart < aEnd && bStart < bEnd && this.expected[aStart] == this.actual[bStart]) {
+            aStart++;
+            bStart++;
+        }
+        while (aStart < aEnd && bStart < bEnd && this.expected[aEnd - 1] == this.actual[bEnd - 1]) {
+            aEnd--;
+            bEnd--;
+        }
+        if (aStart == aEnd || bStart == bEnd) {
+            this.addEdit(aStart, aEnd, bStart, bEnd);
+            return;
+        }
+        final int[] split = this.bisect(aStart, aEnd, bStart, bEnd);
+        if (split == null) {
+            this.addEdit(aStart, aEnd, bStart, bEnd);
+            return;
+        }
+        this.compare(aStart, split[0], bStart, split[1]);
+        this.compare(split[0], aEnd, split[1], bEnd);
+    }
+
+    /**
+     * Finds a point on an optimal edit path by searching forward and backward simultaneously until both paths
+     * overlap.
+     *
+     * @return split point as {@code [expectedIndex, actualIndex]} or {@code null} if no split point could be found
+     * within the cost limit
+     */
+    private int[] bisect(final int aStart, final int aEnd, final int bStart, final int bEnd) {
+        final int n = aEnd - aStart;
+        final int m = bEnd - bStart;
+        final int maxD = (n + m + 1) / 2;
+        final int offset = maxD;
+        final int length = 2 * maxD + 2;
+        final int[] forward = new int[length];
+        final int[] backward = new int[length];
+        Arrays.fill(forward, -1);
+        Arrays.fill(backward, -1);
+        forward[offset + 1] = 0;
+        backward[offset + 1] = 0;
+        final int delta = n - m;
+        final boolean checkForward = delta % 2 != 0;
+        int forwardStart = 0;
+        int forwardEnd = 0;
+        int backwardStart = 0;
+        int backwardEnd = 0;
+        for (int d = 0; d < maxD; d++) {
+            this.remainingCost -= 2L * d + 2L;
+            if (this.remainingCost < 0L) {
+                return null;
+            }
+            for (int k = -d + forwardStart; k <= d - forwardEnd; k += 2) {
+                final int index = offset + k;
+                int x = k == -d || (k != d && forward[index - 1] < forward[index + 1])
+                        ? forward[index + 1] : forward[index - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && this.expected[aStart + x] == this.actual[bStart + y]) {
+                    x++;
+                    y++;
+                }
+                forward[index] = x;
+                if (x > n) {
+                    forwardEnd += 2;
+                } else if (y > m) {
+                    forwardStart += 2;
+                } else if (checkForward) {
+                    final int backwardIndex = offset + delta - k;
+                    if (backwardIndex >= 0 && backwardIndex < length && backward[backwardIndex] != -1
+                        && x >= n - backward[backwardIndex]) {
+                        return new int[]{aStart + x, bStart + y};
+                    }
+                }
+            }
+            for (int k = -d + backwardStart; k <= d - backwardEnd; k += 2) {
+                final int index = offset + k;
+                int x = k == -d || (k != d && backward[index - 1] < backward[index + 1])
+                        ? backward[index + 1] : backward[index - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && this.expected[aEnd - x - 1] == this.actual[bEnd - y - 1]) {
+                    x++;
+                    y++;
+                }
+                backward[index] = x;
+                if (x > n) {
+                    backwardEnd += 2;
+                } else if (y > m) {
+                    backwardStart += 2;
+                } else if (!checkForward) {
+                    final int forwardIndex = offset + delta - k;
+                    if (forwardIndex >= 0 && forwardIndex < length && forward[forwardIndex] != -1) {
+                        final int forwardX = forward[forwardIndex];
+                        final int forwardY = forwardX - (forwardIndex - offset);
+                        if (forwardX >= n - x) {
+                            return new int[]{aStart + forwardX, bStart + forwardY};
+                        }
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private void addEdit(final int expectedStart, final int expectedEnd, final int actualStart, final int actualEnd) {
+        if (expectedStart == expectedEnd && actualStart == actualEnd) {
+            return;
+        }
+        if (!this.edits.isEmpty()) {
+            final Edit previous = this.edits.get(this.edits.size() - 1);
+            if (previous.getExpectedEnd() == expectedStart && previous.getActualEnd() == actualStart) {
+                this.edits.set(this.edits.size() - 1,
+                        new Edit(previous.getExpectedStart(), expectedEnd, previous.getActualStart(), actualEnd));
+                return;
+            }
+        }
+        this.edits.add(new Edit(expectedStart, expectedEnd, actualStart, actualEnd));
+    }
+
+    /**
+     * Replaces the expected elements in {@code [expectedStart, expectedEnd)} with the actual elements in
+     * {@code [actualStart, actualEnd)}. Either range might be empty.
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    static final class Edit {
+        private final int expectedStart;
+        private final int expectedEnd;
+        private final int actualStart;
+        private final int actualEnd;
+
+        int getDeletions() {
+            return this.expectedEnd - this.expectedStart;
+        }
+
+        int getInsertions() {
+            return this.actualEnd - this.actualStart;
+        }
+    }
+}
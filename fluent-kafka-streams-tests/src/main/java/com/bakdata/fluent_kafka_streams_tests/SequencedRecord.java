@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+
+/**
+ * Output record of a {@link TestTopology} together with its position in the production order across all output
+ * topics.
+ *
+ * @param <K> the key type of the record
+ * @param <V> the value type of the record
+ * @see TestTopology#allOutputs()
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class SequencedRecord<K, V> {
+    /**
+     * Global position of this record among all records read via {@link TestTopology#allOutputs()}.
+     */
+    private final long sequenceNumber;
+    /**
+     * Position of the input record, among all records added via {@link TestInput}, whose processing produced this
+     * record. {@code -1} if the record has not been produced while processing a record added via
+     * {@link TestInput}.
+     */
+    private final long inputSequenceNumber;
+    private final ProducerRecord<K, V> record;
+
+    /**
+     * Get the topic this record has been produced to.
+     *
+     * @return name of the output topic
+     */
+    public String getTopic() {
+        return this.record.topic();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SequencedRecord{sequenceNumber=%d, inputSequenceNumber=%d, topic=%s, key=%s, value=%s}",
+                this.sequenceNumber, this.inputSequenceNumber, this.record.topic(), this.record.key(),
+                this.record.value());
+    }
+}
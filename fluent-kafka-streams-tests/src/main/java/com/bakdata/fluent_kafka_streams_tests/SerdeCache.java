@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import com.bakdata.kafka.Configurator;
+import com.bakdata.kafka.Preconfigured;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.serialization.Serde;
+
+/**
+ * <p>Configures serdes using a {@link Configurator} and memoizes the configured serdes for a run of a
+ * {@link TestTopology}.</p>
+ * <p>Serdes are keyed by the identity of the {@link Preconfigured} or {@link Serde}. The configuration itself does not
+ * change during a run. Configuring serdes that connect to a schema registry is expensive, so repeatedly configuring the
+ * same serde, e.g., for each output, reuses the serde configured first. A serde is configured again if it is
+ * requested for keys after it has been configured for values or vice versa, because {@link Serde#configure(Map,
+ * boolean)} configures serde instances in place.</p>
+ * <p>Serdes decorated by a {@link SerdeConfig}, e.g., wrapped in a {@link TimedSerde}, are memoized per original serde
+ * as well, so that caches comparing serdes by identity, such as {@link InputTopicCache}, reuse their entries.</p>
+ */
+@RequiredArgsConstructor
+class SerdeCache {
+    private final Configurator configurator;
+    private final Map<Object, ConfiguredSerde> serdes = new IdentityHashMap<>();
+    private final Map<Serde<?>, Serde<?>> decoratedSerdes = new IdentityHashMap<>();
+
+    <T> Serde<T> configureForKeys(final Preconfigured<? extends Serde<T>> serde) {
+        return this.getOrConfigure(serde, true, () -> this.configurator.configureForKeys(serde));
+    }
+
+    <T> Serde<T> configureForValues(final Preconfigured<? extends Serde<T>> serde) {
+        return this.getOrConfigure(serde, false, () -> this.configurator.configureForValues(serde));
+    }
+
+    <T> Serde<T> configureForKeys(final Serde<T> serde) {
+        return this.getOrConfigure(serde, true, () -> this.configurator.configureForKeys(serde));
+    }
+
+    <T> Serde<T> configureForValues(final Serde<T> serde) {
+        return this.getOrConfigure(serde, false, () -> this.configurator.configureForValues(serde));
+    }
+
+    <T> Serde<T> getOrDecorate(final Serde<T> serde, final UnaryOperator<Serde<T>> decorate) {
+        return (Serde<T>) this.decoratedSerdes.computeIfAbsent(serde, s -> decorate.apply(serde));
+    }
+
+    void clear() {
+        this.serdes.clear();
+        this.decoratedSerdes.clear();
+    }
+
+    private <T> Serde<T> getOrConfigure(final Object source, final boolean isKey,
+            final Supplier<? extends Serde<T>> configure) {
+        final ConfiguredSerde configured = this.serdes.get(source);
+        if (configured != null && configured.isKey == isKey) {
+            return (Serde<T>) configured.serde;
+        }
+        final Serde<T> serde = configure.get();
+        this.serdes.put(source, new ConfiguredSerde(serde, isKey));
+        return serde;
+    }
+
+    @RequiredArgsConstructor
+    private static final class ConfiguredSerde {
+        private final Serde<?> serde;
+        private final boolean isKey;
+    }
+}
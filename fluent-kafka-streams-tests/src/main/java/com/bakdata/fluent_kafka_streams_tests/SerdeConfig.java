@@ -24,12 +24,14 @@
 
 package com.bakdata.fluent_kafka_streams_tests;
 
-import com.bakdata.kafka.Configurator;
 import com.bakdata.kafka.Preconfigured;
+import java.nio.ByteBuffer;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Serde;
 
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
@@ -40,18 +42,25 @@ final class SerdeConfig<K, V> {
     private final Serde<V> valueSerde;
     private final Serde<?> defaultKeySerde;
     private final Serde<?> defaultValueSerde;
-    private final Configurator configurator;
+    private final SerdeCache serdeCache;
+    private final SerdeStatistics statistics;
+    private final BinarySchemas binarySchemas;
 
     static <K, V> SerdeConfig<K, V> create(@NonNull final Serde<K> keySerde, @NonNull final Serde<V> valueSerde,
-            final Configurator configurator) {
-        return new SerdeConfig<>(keySerde, valueSerde, keySerde, valueSerde, configurator);
+            final SerdeCache serdeCache, final SerdeStatistics statistics, final BinarySchemas binarySchemas) {
+        final Serde<K> newKeySerde = decorate(keySerde, serdeCache, statistics, binarySchemas);
+        final Serde<V> newValueSerde = decorate(valueSerde, serdeCache, statistics, binarySchemas);
+        return new SerdeConfig<>(newKeySerde, newValueSerde, newKeySerde, newValueSerde, serdeCache, statistics,
+                binarySchemas);
     }
 
     <KR, VR> SerdeConfig<KR, VR> withSerde(final Serde<KR> keySerde, final Serde<VR> valueSerde) {
-        final Serde<KR> newKeySerde = keySerde == null ? this.getDefaultKeySerde() : keySerde;
-        final Serde<VR> newValueSerde = valueSerde == null ? this.getDefaultValueSerde() : valueSerde;
+        final Serde<KR> newKeySerde = keySerde == null ? this.getDefaultKeySerde()
+                : decorate(keySerde, this.serdeCache, this.statistics, this.binarySchemas);
+        final Serde<VR> newValueSerde = valueSerde == null ? this.getDefaultValueSerde()
+                : decorate(valueSerde, this.serdeCache, this.statistics, this.binarySchemas);
         return new SerdeConfig<>(newKeySerde, newValueSerde, this.defaultKeySerde, this.defaultValueSerde,
-                this.configurator);
+                this.serdeCache, this.statistics, this.binarySchemas);
     }
 
     <KR, VR> SerdeConfig<KR, VR> configureWithSerde(final Preconfigured<? extends Serde<KR>> keySerde,
@@ -60,7 +69,8 @@ final class SerdeConfig<K, V> {
     }
 
     <KR, VR> SerdeConfig<KR, VR> configureWithSerde(final Serde<KR> keySerde, final Serde<VR> valueSerde) {
-        return this.configureWithSerde(Preconfigured.create(keySerde), Preconfigured.create(valueSerde));
+        return this.withSerde(this.serdeCache.configureForKeys(keySerde),
+                this.serdeCache.configureForValues(valueSerde));
     }
 
     <KR> SerdeConfig<KR, V> withKeySerde(final Serde<KR> keySerde) {
@@ -72,7 +82,7 @@ final class SerdeConfig<K, V> {
     }
 
     <KR> SerdeConfig<KR, V> configureWithKeySerde(final Serde<KR> keySerde) {
-        return this.configureWithKeySerde(Preconfigured.create(keySerde));
+        return this.withSerde(this.serdeCache.configureForKeys(keySerde), this.valueSerde);
     }
 
     <VR> SerdeConfig<K, VR> withValueSerde(final Serde<VR> valueSerde) {
@@ -84,7 +94,7 @@ final class SerdeConfig<K, V> {
     }
 
     <VR> SerdeConfig<K, VR> configureWithValueSerde(final Serde<VR> valueSerde) {
-        return this.configureWithValueSerde(Preconfigured.create(valueSerde));
+        return this.withSerde(this.keySerde, this.serdeCache.configureForValues(valueSerde));
     }
 
     <KR, VR> SerdeConfig<KR, VR> withTypes(final Class<KR> keyType, final Class<VR> valueType) {
@@ -99,12 +109,65 @@ final class SerdeConfig<K, V> {
         return (SerdeConfig<K, VR>) this;
     }
 
+    ProducerRecord<K, V> deserialize(final ProducerRecord<byte[], byte[]> serializedRecord) {
+        final String topic = serializedRecord.topic();
+        final Headers headers = serializedRecord.headers();
+        final K key = this.keySerde.deserializer().deserialize(topic, headers, serializedRecord.key());
+        final V value = this.valueSerde.deserializer().deserialize(topic, headers, serializedRecord.value());
+        return new ProducerRecord<>(topic, serializedRecord.partition(), serializedRecord.timestamp(), key, value,
+                headers);
+    }
+
+    ProducerRecord<K, V> deserializeViews(final ProducerRecord<ByteBuffer, ByteBuffer> serializedRecord) {
+        final String topic = serializedRecord.topic();
+        final Headers headers = serializedRecord.headers();
+        final K key = this.keySerde.deserializer().deserialize(topic, headers, duplicate(serializedRecord.key()));
+        final V value =
+                this.valueSerde.deserializer().deserialize(topic, headers, duplicate(serializedRecord.value()));
+        return new ProducerRecord<>(topic, serializedRecord.partition(), serializedRecord.timestamp(), key, value,
+                headers);
+    }
+
+    byte[] serializeKey(final String topic, final K key) {
+        return this.keySerde.serializer().serialize(topic, key);
+    }
+
+    byte[] serializeValue(final String topic, final V value) {
+        return this.valueSerde.serializer().serialize(topic, value);
+    }
+
+    K deserializeKey(final String topic, final byte[] key) {
+        return this.keySerde.deserializer().deserialize(topic, key);
+    }
+
+    V deserializeValue(final String topic, final byte[] value) {
+        return this.valueSerde.deserializer().deserialize(topic, value);
+    }
+
+    private static <T> Serde<T> decorate(final Serde<T> serde, final SerdeCache serdeCache,
+            final SerdeStatistics statistics, final BinarySchemas binarySchemas) {
+        if (statistics == null && binarySchemas == null) {
+            return serde;
+        }
+        // decorated serdes are memoized so that input topics and deserializers cached per serde are reused
+        return serdeCache.getOrDecorate(serde, s -> {
+            // BinarySchemas is only loaded if binary serdes are enabled
+            final Serde<T> replaced = binarySchemas == null ? s : BinarySchemas.replace(s, binarySchemas);
+            // measure the serde that is actually used
+            return TimedSerde.wrap(replaced, statistics);
+        });
+    }
+
+    private static ByteBuffer duplicate(final ByteBuffer buffer) {
+        return buffer == null ? null : buffer.duplicate();
+    }
+
     private <KR> Serde<KR> configureForKeys(final Preconfigured<? extends Serde<KR>> keySerde) {
-        return this.configurator.configureForKeys(keySerde);
+        return this.serdeCache.configureForKeys(keySerde);
     }
 
     private <VR> Serde<VR> configureForValues(final Preconfigured<? extends Serde<VR>> valueSerde) {
-        return this.configurator.configureForValues(valueSerde);
+        return this.serdeCache.configureForValues(valueSerde);
     }
 
     private <KR> Serde<KR> getDefaultKeySerde() {
@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * <p>Performance profile of a serde measured by {@link SerdeRoundTrip}.</p>
+ * <p>Times are measured in nanoseconds over all records. Allocations are only available if supported by the JVM.</p>
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class SerdeProfile {
+    private final long recordCount;
+    private final long serializationNanos;
+    private final long deserializationNanos;
+    private final long serializedBytes;
+    /**
+     * Bytes allocated while serializing and deserializing all records. {@code -1} if the JVM does not support
+     * measuring thread allocations.
+     */
+    private final long allocatedBytes;
+
+    /**
+     * Get the average size of a serialized record.
+     *
+     * @return serialized bytes per record
+     */
+    public double getBytesPerRecord() {
+        return (double) this.serializedBytes / this.recordCount;
+    }
+
+    /**
+     * Get the average number of bytes allocated for serializing and deserializing a record.
+     *
+     * @return allocated bytes per record
+     * @throws UnsupportedOperationException if the JVM does not support measuring thread allocations
+     */
+    public double getAllocatedBytesPerRecord() {
+        if (this.allocatedBytes < 0L) {
+            throw new UnsupportedOperationException("Thread allocation measurement is not supported by this JVM");
+        }
+        return (double) this.allocatedBytes / this.recordCount;
+    }
+
+    /**
+     * Get the number of records serialized per second.
+     *
+     * @return serialization throughput in records per second
+     */
+    public double getSerializationThroughput() {
+        return throughput(this.recordCount, this.serializationNanos);
+    }
+
+    /**
+     * Get the number of records deserialized per second.
+     *
+     * @return deserialization throughput in records per second
+     */
+    public double getDeserializationThroughput() {
+        return throughput(this.recordCount, this.deserializationNanos);
+    }
+
+    /**
+     * Get the number of records serialized and deserialized per second.
+     *
+     * @return round-trip throughput in records per second
+     */
+    public double getRoundTripThroughput() {
+        return throughput(this.recordCount, this.serializationNanos + this.deserializationNanos);
+    }
+
+    /**
+     * Expect serialized records to be at most the given number of bytes on average.
+     *
+     * @param maxBytesPerRecord maximum serialized bytes per record
+     * @return this profile, so it can be chained.
+     */
+    public SerdeProfile expectBytesPerRecord(final long maxBytesPerRecord) {
+        final double bytesPerRecord = this.getBytesPerRecord();
+        if (bytesPerRecord > maxBytesPerRecord) {
+            throw new AssertionError(String.format(
+                    "Serialized %.1f bytes per record but budget is %d bytes per record: %s", bytesPerRecord,
+                    maxBytesPerRecord, this));
+        }
+        return this;
+    }
+
+    /**
+     * Expect at most the given number of bytes to be allocated on average for serializing and deserializing a
+     * record.
+     *
+     * @param maxBytesPerRecord maximum allocated bytes per record
+     * @return this profile, so it can be chained.
+     * @throws UnsupportedOperationException if the JVM does not support measuring thread allocations
+     */
+    public SerdeProfile expectAllocatedBytesPerRecord(final long maxBytesPerRecord) {
+        final double bytesPerRecord = this.getAllocatedBytesPerRecord();
+        if (bytesPerRecord > maxBytesPerRecord) {
+            throw new AssertionError(String.format(
+                    "Allocated %.1f bytes per record but budget is %d bytes per record: %s", bytesPerRecord,
+                    maxBytesPerRecord, this));
+        }
+        return this;
+    }
+
+    /**
+     * Expect at least the given number of records to be serialized and deserialized per second.
+     *
+     * @param minRecordsPerSecond minimum round-trip throughput
+     * @return this profile, so it can be chained.
+     */
+    public SerdeProfile expectRoundTripThroughput(final double minRecordsPerSecond) {
+        final double throughput = this.getRoundTripThroughput();
+        if (throughput < minRecordsPerSecond) {
+            throw new AssertionError(String.format(
+                    "Round-trip throughput is %.0f records/s but at least %.0f records/s are required: %s",
+                    throughput, minRecordsPerSecond, this));
+        }
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        final String allocations = this.allocatedBytes < 0L ? "n/a"
+                : String.format("%.1f bytes/record", this.getAllocatedBytesPerRecord());
+        return String.format("SerdeProfile{records=%d, size=%.1f bytes/record, serialization=%.0f records/s, "
+                             + "deserialization=%.0f records/s, allocations=%s}", this.recordCount,
+                this.getBytesPerRecord(), this.getSerializationThroughput(), this.getDeserializationThroughput(),
+                allocations);
+    }
+
+    private static double throughput(final long count, final long nanos) {
+        return nanos == 0L ? Double.POSITIVE_INFINITY : count * 1.0e9 / nanos;
+    }
+}
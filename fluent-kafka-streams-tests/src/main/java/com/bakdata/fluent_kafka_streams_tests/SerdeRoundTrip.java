@@ -0,0 +1,214 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * <p>Benchmarks a serde and fuzzes it with round-trips of randomized values.</p>
+ * <p>Each value is serialized and deserialized again. The run fails if any value does not survive the round-trip
+ * unchanged or if the serde throws an exception. Otherwise, a {@link SerdeProfile} with throughput, serialized size
+ * and allocations per record is returned.</p>
+ * <p>Use like this:</p>
+ * <pre>{@code
+ * testTopology.valueSerdeRoundTrip(new SpecificAvroSerde<City>())
+ *     .run(10_000, random -> randomCity(random))
+ *     .expectBytesPerRecord(64)
+ *     .expectAllocatedBytesPerRecord(1024);
+ * }</pre>
+ *
+ * @param <T> type of data
+ * @see TestTopology#valueSerdeRoundTrip(Serde)
+ * @see TestTopology#keySerdeRoundTrip(Serde)
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SerdeRoundTrip<T> {
+    private static final String DEFAULT_TOPIC = "serde-round-trip";
+    private static final int DEFAULT_WARMUP_RECORDS = 1_000;
+    private final Serde<T> serde;
+    private final String topic;
+    private final long seed;
+    private final int warmupRecords;
+    private final BiPredicate<? super T, ? super T> equality;
+
+    SerdeRoundTrip(final Serde<T> serde) {
+        this(serde, DEFAULT_TOPIC, 0L, DEFAULT_WARMUP_RECORDS, Objects::deepEquals);
+    }
+
+    /**
+     * Set the topic passed to the serde. Defaults to {@value #DEFAULT_TOPIC}.
+     *
+     * @param topic name of topic
+     * @return Copy of current {@code SerdeRoundTrip} with provided topic
+     */
+    public SerdeRoundTrip<T> withTopic(final String topic) {
+        return new SerdeRoundTrip<>(this.serde, topic, this.seed, this.warmupRecords, this.equality);
+    }
+
+    /**
+     * Set the seed of the {@link Random} passed to the generator, so that runs are reproducible. Defaults to
+     * {@code 0}.
+     *
+     * @param seed seed for generating values
+     * @return Copy of current {@code SerdeRoundTrip} with provided seed
+     */
+    public SerdeRoundTrip<T> withSeed(final long seed) {
+        return new SerdeRoundTrip<>(this.serde, this.topic, seed, this.warmupRecords, this.equality);
+    }
+
+    /**
+     * Set the number of round-trips performed before measuring, so that the JIT compiler can optimize the serde.
+     * Defaults to {@value #DEFAULT_WARMUP_RECORDS}.
+     *
+     * @param warmupRecords number of unmeasured round-trips
+     * @return Copy of current {@code SerdeRoundTrip} with provided number of warm-up records
+     */
+    public SerdeRoundTrip<T> withWarmup(final int warmupRecords) {
+        return new SerdeRoundTrip<>(this.serde, this.topic, this.seed, warmupRecords, this.equality);
+    }
+
+    /**
+     * Set how original and deserialized values are compared. Defaults to {@link Objects#deepEquals(Object, Object)}.
+     *
+     * @param equality returns true if a value survived the round-trip
+     * @return Copy of current {@code SerdeRoundTrip} with provided equality
+     */
+    public SerdeRoundTrip<T> withEquality(final BiPredicate<? super T, ? super T> equality) {
+        return new SerdeRoundTrip<>(this.serde, this.topic, this.seed, this.warmupRecords, equality);
+    }
+
+    /**
+     * Run round-trips for randomly generated values.
+     *
+     * @param recordCount number of values to generate
+     * @param generator generates a value using the seeded {@link Random}
+     * @return profile of the serde
+     * @throws AssertionError if any value does not survive the round-trip
+     */
+    public SerdeProfile run(final int recordCount, final Function<? super Random, ? extends T> generator) {
+        final Random random = new Random(this.seed);
+        final List<T> values = new ArrayList<>(recordCount);
+        for (int i = 0; i < recordCount; i++) {
+            values.add(generator.apply(random));
+        }
+        return this.run(values);
+    }
+
+    /**
+     * Run round-trips for the given values, e.g., for known edge cases.
+     *
+     * @param values values to serialize and deserialize
+     * @return profile of the serde
+     * @throws AssertionError if any value does not survive the round-trip
+     */
+    public SerdeProfile run(final Collection<? extends T> values) {
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("At least one value is required for a round-trip");
+        }
+        final List<T> originals = new ArrayList<>(values);
+        final int recordCount = originals.size();
+        final Serializer<T> serializer = this.serde.serializer();
+        final Deserializer<T> deserializer = this.serde.deserializer();
+        this.warmUp(originals, serializer, deserializer);
+
+        final List<Headers> headers = new ArrayList<>(recordCount);
+        for (int i = 0; i < recordCount; i++) {
+            headers.add(new RecordHeaders());
+        }
+        final byte[][] serialized = new byte[recordCount][];
+        final Object[] deserialized = new Object[recordCount];
+        final RuntimeException[] failures = new RuntimeException[recordCount];
+        final boolean measureAllocations = ThreadAllocations.isSupported();
+        final long startBytes = measureAllocations ? ThreadAllocations.currentThreadAllocatedBytes() : 0L;
+
+        final long serializationStart = System.nanoTime();
+        for (int i = 0; i < recordCount; i++) {
+            try {
+                serialized[i] = serializer.serialize(this.topic, headers.get(i), originals.get(i));
+            } catch (final RuntimeException e) {
+                failures[i] = e;
+            }
+        }
+        final long serializationNanos = System.nanoTime() - serializationStart;
+        final long deserializationStart = System.nanoTime();
+        for (int i = 0; i < recordCount; i++) {
+            if (failures[i] == null) {
+                try {
+                    deserialized[i] = deserializer.deserialize(this.topic, headers.get(i), serialized[i]);
+                } catch (final RuntimeException e) {
+                    failures[i] = e;
+                }
+            }
+        }
+        final long deserializationNanos = System.nanoTime() - deserializationStart;
+        final long allocatedBytes = measureAllocations ? ThreadAllocations.currentThreadAllocatedBytes() - startBytes
+                : -1L;
+
+        long serializedBytes = 0L;
+        final MismatchReport report = new MismatchReport();
+        for (int i = 0; i < recordCount; i++) {
+            final T original = originals.get(i);
+            if (failures[i] != null) {
+                report.add("failed round-trips", String.format("#%d %s threw %s", i, original, failures[i]));
+                continue;
+            }
+            serializedBytes += serialized[i] == null ? 0 : serialized[i].length;
+            final T roundTripped = (T) deserialized[i];
+            if (!this.equality.test(original, roundTripped)) {
+                report.add("non-identity round-trips", String.format("#%d %s became %s", i, original, roundTripped));
+            }
+        }
+        report.throwIfNotEmpty(String.format("Serde does not round-trip all %d values on topic %s", recordCount,
+                this.topic));
+        return new SerdeProfile(recordCount, serializationNanos, deserializationNanos, serializedBytes,
+                allocatedBytes);
+    }
+
+    private void warmUp(final List<? extends T> values, final Serializer<T> serializer,
+            final Deserializer<T> deserializer) {
+        for (int i = 0; i < this.warmupRecords; i++) {
+            final T value = values.get(i % values.size());
+            try {
+                final Headers headers = new RecordHeaders();
+                deserializer.deserialize(this.topic, headers, serializer.serialize(this.topic, headers, value));
+            } catch (final RuntimeException e) {
+                // failures are reported by the measured run
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>Time spent and bytes processed by serdes per topic.</p>
+ * <p>Collected by {@link TestTopology#withSerdeStatistics()} for the default serdes of the topology and all serdes
+ * used by inputs and outputs of the {@code TestTopology}. Serdes passed explicitly to operators inside the topology
+ * are not measured.</p>
+ */
+public final class SerdeStatistics {
+    /**
+     * Property under which the statistics are passed to the topology and its serdes.
+     */
+    public static final String STATISTICS_CONFIG = "fluent.kafka.streams.tests.serde.statistics";
+    private final Map<String, TopicSerdeStatistics> topics = new ConcurrentHashMap<>();
+
+    /**
+     * Get all topics for which serdes have been used.
+     *
+     * @return names of topics
+     */
+    public Set<String> getTopics() {
+        return this.topics.keySet();
+    }
+
+    /**
+     * Get the statistics of a topic.
+     *
+     * @param topic name of the topic
+     * @return statistics of the topic, empty if no serdes have been used for the topic
+     */
+    public TopicSerdeStatistics getStatistics(final String topic) {
+        final TopicSerdeStatistics statistics = this.topics.get(topic);
+        return statistics == null ? new TopicSerdeStatistics() : statistics;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("SerdeStatistics{");
+        new TreeMap<>(this.topics).forEach((topic, statistics) -> builder.append(String.format("%n  %s: %s", topic,
+                statistics)));
+        return builder.append(String.format("%n}")).toString();
+    }
+
+    void recordSerialization(final String topic, final long nanos, final int bytes) {
+        this.topics.computeIfAbsent(topic, t -> new TopicSerdeStatistics()).recordSerialization(nanos, bytes);
+    }
+
+    void recordDeserialization(final String topic, final long nanos, final int bytes) {
+        this.topics.computeIfAbsent(topic, t -> new TopicSerdeStatistics()).recordDeserialization(nanos, bytes);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.util.Arrays;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.Serde;
+
+/**
+ * <p>Represents a single serialized output record from {@link TestOutput} to be tested.</p>
+ * <p>Expected keys and values are serialized and compared to the bytes produced by the topology, so the output
+ * record itself is never deserialized. This is useful for outputs with values that are expensive to deserialize,
+ * e.g., Avro or Protobuf. Note that some serdes do not produce identical bytes for equal objects, e.g., if map
+ * entries are serialized in hash order.</p>
+ *
+ * @param <K> the key type of the output
+ * @param <V> the value type of the output
+ * @see TestOutput#expectNextSerializedRecord()
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class SerializedExpectation<K, V> {
+    private final ProducerRecord<byte[], byte[]> lastRecord;
+    private final TestOutput<K, V> output;
+    private final SerdeConfig<K, V> serdeConfig;
+
+    /**
+     * Asserts whether a record exists.
+     *
+     * @return the current {@code SerializedExpectation} chain
+     */
+    public SerializedExpectation<K, V> isPresent() {
+        if (this.lastRecord == null) {
+            throw new AssertionError("No more records found");
+        }
+        return this.and();
+    }
+
+    /**
+     * Checks for the equality of the serialized key and {@code expectedKey}.
+     *
+     * @param expectedKey serialized key to expect
+     * @return the current {@code SerializedExpectation} chain
+     */
+    public SerializedExpectation<K, V> hasKeyBytes(final byte[] expectedKey) {
+        this.isPresent();
+        if (!Arrays.equals(this.lastRecord.key(), expectedKey)) {
+            throw new AssertionError(String.format("Record key bytes do not match. Expected %s but got %s",
+                    MismatchReport.formatBytes(expectedKey), MismatchReport.formatBytes(this.lastRecord.key())));
+        }
+        return this.and();
+    }
+
+    /**
+     * Checks for the equality of the serialized key and {@code expectedKey} serialized with the key serde of the
+     * output.
+     *
+     * @param expectedKey key to expect
+     * @return the current {@code SerializedExpectation} chain
+     */
+    public SerializedExpectation<K, V> hasKeyBytesEqualTo(final K expectedKey) {
+        this.isPresent();
+        return this.hasKeyBytes(this.serdeConfig.serializeKey(this.lastRecord.topic(), expectedKey));
+    }
+
+    /**
+     * Checks for the equality of the serialized key and {@code expectedKey} serialized with the given serde.
+     *
+     * @param expectedKey key to expect
+     * @param serde serde to serialize the expected key
+     * @param <KR> type of the expected key
+     * @return the current {@code SerializedExpectation} chain
+     */
+    public <KR> SerializedExpectation<K, V> hasKeyBytesEqualTo(final KR expectedKey, final Serde<KR> serde) {
+        this.isPresent();
+        return this.hasKeyBytes(serde.serializer().serialize(this.lastRecord.topic(), expectedKey));
+    }
+
+    /**
+     * Checks for the equality of the serialized value and {@code expectedValue}.
+     *
+     * @param expectedValue serialized value to expect
+     * @return the current {@code SerializedExpectation} chain
+     */
+    public SerializedExpectation<K, V> hasValueBytes(final byte[] expectedValue) {
+        this.isPresent();
+        if (!Arrays.equals(this.lastRecord.value(), expectedValue)) {
+            throw new AssertionError(String.format("Record value bytes do not match. Expected %s but got %s",
+                    MismatchReport.formatBytes(expectedValue), MismatchReport.formatBytes(this.lastRecord.value())));
+        }
+        return this.and();
+    }
+
+    /**
+     * Checks for the equality of the serialized value and {@code expectedValue} serialized with the value serde of
+     * the output.
+     *
+     * @param expectedValue value to expect
+     * @return the current {@code SerializedExpectation} chain
+     */
+    public SerializedExpectation<K, V> hasValueBytesEqualTo(final V expectedValue) {
+        this.isPresent();
+        return this.hasValueBytes(this.serdeConfig.serializeValue(this.lastRecord.topic(), expectedValue));
+    }
+
+    /**
+     * Checks for the equality of the serialized value and {@code expectedValue} serialized with the given serde.
+     *
+     * @param expectedValue value to expect
+     * @param serde serde to serialize the expected value
+     * @param <VR> type of the expected value
+     * @return the current {@code SerializedExpectation} chain
+     */
+    public <VR> SerializedExpectation<K, V> hasValueBytesEqualTo(final VR expectedValue, final Serde<VR> serde) {
+        this.isPresent();
+        return this.hasValueBytes(serde.serializer().serialize(this.lastRecord.topic(), expectedValue));
+    }
+
+    /**
+     * Concatenates calls to this {@code SerializedExpectation}. It is not necessary to call this method, but it can
+     * be seen as a more readable alternative to simple chaining.
+     *
+     * @return this
+     */
+    public SerializedExpectation<K, V> and() {
+        return this;
+    }
+
+    /**
+     * Reads the next serialized record and creates a {@code SerializedExpectation} for it. This is logically
+     * equivalent to {@link TestOutput#expectNextSerializedRecord()}.
+     *
+     * @return A {@code SerializedExpectation} containing the next record from the output.
+     */
+    public SerializedExpectation<K, V> expectNextSerializedRecord() {
+        return this.output.expectNextSerializedRecord();
+    }
+
+    /**
+     * Reads the next serialized record from the output and expects it to be the end of output.
+     *
+     * @return A {@code SerializedExpectation} containing the next record from the output.
+     */
+    public SerializedExpectation<K, V> expectNoMoreSerializedRecord() {
+        return this.output.expectNextSerializedRecord().toBeEmpty();
+    }
+
+    /**
+     * Asserts that there is no records present, i.e., the end of the output has been reached.
+     *
+     * @return the current {@code SerializedExpectation} chain
+     */
+    public SerializedExpectation<K, V> toBeEmpty() {
+        if (this.lastRecord != null) {
+            throw new AssertionError(String.format("More records found. {key=%s, value=%s}",
+                    MismatchReport.formatBytes(this.lastRecord.key()),
+                    MismatchReport.formatBytes(this.lastRecord.value())));
+        }
+        return this.and();
+    }
+}
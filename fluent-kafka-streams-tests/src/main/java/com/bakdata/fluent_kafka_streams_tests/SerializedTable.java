@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * Hash of the latest serialized value per serialized key of a changelog, together with a {@link TableDigest} that is
+ * updated with every change. Records with {@code null} values delete their key. Only value hashes are retained, so
+ * that huge tables can be compared without keeping all values in memory.
+ */
+class SerializedTable {
+    private final Map<SerializedKey, Long> valueHashes = new HashMap<>();
+    @Getter
+    private final TableDigest digest = new TableDigest();
+
+    void put(final byte[] key, final byte[] value) {
+        final SerializedKey serializedKey = new SerializedKey(key);
+        final long valueHash = TableDigest.hash(value);
+        final Long previousValueHash = value == null ? this.valueHashes.remove(serializedKey)
+                : this.valueHashes.put(serializedKey, valueHash);
+        if (previousValueHash != null) {
+            this.digest.remove(serializedKey.getHash(), previousValueHash);
+        }
+        if (value != null) {
+            this.digest.add(serializedKey.getHash(), valueHash);
+        }
+    }
+
+    /**
+     * Get the hash of the latest value of a key.
+     *
+     * @param key serialized key
+     * @return hash of the serialized value or {@code null} if the table does not contain the key
+     */
+    Long getValueHash(final SerializedKey key) {
+        return this.valueHashes.get(key);
+    }
+
+    Set<SerializedKey> getKeys() {
+        return this.valueHashes.keySet();
+    }
+
+    /**
+     * Serialized key together with its {@link TableDigest#hash(byte[]) hash}. A {@code null} key is distinct from an
+     * empty key.
+     */
+    @Getter
+    static final class SerializedKey {
+        private final byte[] bytes;
+        private final long hash;
+
+        SerializedKey(final byte[] bytes) {
+            this.bytes = bytes;
+            this.hash = TableDigest.hash(bytes);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SerializedKey)) {
+                return false;
+            }
+            final SerializedKey other = (SerializedKey) o;
+            return this.hash == other.hash && Arrays.equals(this.bytes, other.bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(this.hash);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Deque;
+import lombok.experimental.UtilityClass;
+import org.apache.kafka.clients.producer.ProducerRecord;
+
+/**
+ * <p>Compares outputs with snapshot files containing one record per line.</p>
+ * <p>Each line is a JSON object with the timestamp, key, and value of a record. Headers are not part of the snapshot.
+ * Keys and values are represented by their {@link Object#toString()} representation. Byte arrays are represented in
+ * Base64 and other arrays by {@link Arrays#deepToString(Object[])}, because arrays do not implement
+ * {@code toString()}. Records are compared one by one while reading the snapshot, so memory consumption is constant
+ * independent of the size of the snapshot.</p>
+ */
+@UtilityClass
+class Snapshots {
+    /**
+     * System property that enables the update mode of {@link TestOutput#matchesSnapshot(Path)}.
+     */
+    static final String UPDATE_PROPERTY = "fluent.kafka.streams.tests.updateSnapshots";
+    private static final int CONTEXT_LINES = 3;
+
+    static boolean isUpdateEnabled() {
+        return Boolean.getBoolean(UPDATE_PROPERTY);
+    }
+
+    static <K, V> void write(final Iterable<ProducerRecord<K, V>> records, final Path snapshot) {
+        try {
+            final Path parent = snapshot.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (final BufferedWriter writer = Files.newBufferedWriter(snapshot, StandardCharsets.UTF_8)) {
+                for (final ProducerRecord<K, V> producerRecord : records) {
+                    writer.write(format(producerRecord));
+                    writer.newLine();
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Cannot write snapshot " + snapshot, e);
+        }
+    }
+
+    static <K, V> void match(final Iterable<ProducerRecord<K, V>> records, final Path snapshot) {
+        if (!Files.exists(snapshot)) {
+            throw new AssertionError(String.format("Snapshot %s does not exist. Set system property %s=true to "
+                                                   + "create it.", snapshot, UPDATE_PROPERTY));
+        }
+        try (final BufferedReader reader = Files.newBufferedReader(snapshot, StandardCharsets.UTF_8)) {
+            final Deque<String> context = new ArrayDeque<>(CONTEXT_LINES);
+            long index = 0L;
+            for (final ProducerRecord<K, V> producerRecord : records) {
+                final String actual = format(producerRecord);
+                final String expected = reader.readLine();
+                if (!actual.equals(expected)) {
+                    throw divergence(snapshot, index, context, expected, actual);
+                }
+                if (context.size() == CONTEXT_LINES) {
+                    context.removeFirst();
+                }
+                context.addLast(actual);
+                index++;
+            }
+            final String expected = reader.readLine();
+            if (expected != null) {
+                throw divergence(snapshot, index, context, expected, null);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Cannot read snapshot " + snapshot, e);
+        }
+    }
+
+    static String format(final ProducerRecord<?, ?> producerRecord) {
+        return String.format("{\"timestamp\":%d,\"key\":%s,\"value\":%s}", producerRecord.timestamp(),
+                quote(producerRecord.key()), quote(producerRecord.value()));
+    }
+
+    private static AssertionError divergence(final Path snapshot, final long index, final Iterable<String> context,
+            final String expected, final String actual) {
+        final StringBuilder message = new StringBuilder(
+                String.format("Output does not match snapshot %s at record %d", snapshot, index));
+        for (final String line : context) {
+            message.append(String.format("%n    %s", line));
+        }
+        message.append(String.format("%n  - %s", expected == null ? "<end of snapshot>" : expected));
+        message.append(String.format("%n  + %s", actual == null ? "<end of output>" : actual));
+        message.append(String.format("%nSet system property %s=true to update the snapshot.", UPDATE_PROPERTY));
+        return new AssertionError(message.toString());
+    }
+
+    private static String quote(final Object object) {
+        if (object == null) {
+            return "null";
+        }
+        final String string = toString(object);
+        final StringBuilder quoted = new StringBuilder(string.length() + 2).append('"');
+        for (int i = 0; i < string.length(); i++) {
+            final char c = string.charAt(i);
+            switch (c) {
+                case '"':
+                    quoted.append("\\\"");
+                    break;
+                case '\\':
+                    quoted.append("\\\\");
+                    break;
+                case '\n':
+                    quoted.append("\\n");
+                    break;
+                case '\r':
+                    quoted.append("\\r");
+                    break;
+                case '\t':
+                    quoted.append("\\t");
+                    break;
+                default:
+                    if (c < ' ') {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    private static String toString(final Object object) {
+        if (object instanceof byte[]) {
+            return Base64.getEncoder().encodeToString((byte[]) object);
+        }
+        if (object.getClass().isArray()) {
+            // wrapped in an array because Arrays.deepToString also supports nested primitive arrays
+            final String string = Arrays.deepToString(new Object[]{object});
+            return string.substring(1, string.length() - 1);
+        }
+        return object.toString();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.state.KeyValueIterator;
+
+/**
+ * <p>Lazy scan over the entries of a state store, e.g., a range of a key-value store or the windows of a key in a
+ * window store.</p>
+ * <p>Each method opens a new iterator on the store, streams over the entries, and closes the iterator again, so
+ * stores with millions of entries can be checked without materializing them. Only {@link #toList()} keeps all
+ * entries in memory.</p>
+ *
+ * @param <K> the key type of the scan
+ * @param <V> the value type of the scan
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class StoreScan<K, V> {
+    private final String description;
+    private final Supplier<? extends KeyValueIterator<K, V>> iteratorSupplier;
+
+    /**
+     * Stream over all entries of this scan.
+     *
+     * @param action action invoked for each entry in scan order
+     */
+    public void forEach(final Consumer<? super KeyValue<K, V>> action) {
+        try (final KeyValueIterator<K, V> iterator = this.iteratorSupplier.get()) {
+            iterator.forEachRemaining(action);
+        }
+    }
+
+    /**
+     * Count the entries of this scan.
+     *
+     * @return number of entries
+     */
+    public long count() {
+        long count = 0L;
+        try (final KeyValueIterator<K, V> iterator = this.iteratorSupplier.get()) {
+            while (iterator.hasNext()) {
+                iterator.next();
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Read all entries of this scan into a list.
+     *
+     * @return entries in scan order
+     */
+    public List<KeyValue<K, V>> toList() {
+        final List<KeyValue<K, V>> entries = new ArrayList<>();
+        this.forEach(entries::add);
+        return entries;
+    }
+
+    /**
+     * Expect this scan to contain the given number of entries.
+     *
+     * @param expectedCount expected number of entries
+     * @return the current {@code StoreScan}
+     */
+    public StoreScan<K, V> expectCount(final long expectedCount) {
+        final long count = this.count();
+        if (count != expectedCount) {
+            throw new AssertionError(
+                    String.format("Expected %d entries in %s but got %d", expectedCount, this.description, count));
+        }
+        return this;
+    }
+
+    /**
+     * Expect this scan to contain no entries.
+     *
+     * @return the current {@code StoreScan}
+     */
+    public StoreScan<K, V> expectEmpty() {
+        try (final KeyValueIterator<K, V> iterator = this.iteratorSupplier.get()) {
+            if (iterator.hasNext()) {
+                final KeyValue<K, V> entry = iterator.next();
+                throw new AssertionError(String.format("Expected no entries in %s but got %s", this.description,
+                        MismatchReport.formatRecord(entry.key, entry.value)));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Expect this scan to contain exactly the given entries in the given order. The scan fails on the first
+     * diverging entry.
+     *
+     * @param expectedEntries expected entries in scan order
+     * @return the current {@code StoreScan}
+     */
+    public StoreScan<K, V> expectEntries(final List<KeyValue<K, V>> expectedEntries) {
+        try (final KeyValueIterator<K, V> iterator = this.iteratorSupplier.get()) {
+            final Iterator<KeyValue<K, V>> expectedIterator = expectedEntries.iterator();
+            int index = 0;
+            while (iterator.hasNext() && expectedIterator.hasNext()) {
+                final KeyValue<K, V> entry = iterator.next();
+                final KeyValue<K, V> expectedEntry = expectedIterator.next();
+                if (!Objects.equals(entry, expectedEntry)) {
+                    throw new AssertionError(String.format("Expected %s at position %d in %s but got %s",
+                            MismatchReport.formatRecord(expectedEntry.key, expectedEntry.value), index,
+                            this.description, MismatchReport.formatRecord(entry.key, entry.value)));
+                }
+                index++;
+            }
+            if (iterator.hasNext()) {
+                final KeyValue<K, V> entry = iterator.next();
+                throw new AssertionError(String.format("Expected %d entries in %s but got additional entry %s",
+                        expectedEntries.size(), this.description, MismatchReport.formatRecord(entry.key, entry.value)));
+            }
+            if (expectedIterator.hasNext()) {
+                final KeyValue<K, V> expectedEntry = expectedIterator.next();
+                throw new AssertionError(String.format(
+                        "Expected %d entries in %s but got %d, first missing entry is %s", expectedEntries.size(),
+                        this.description, index,
+                        MismatchReport.formatRecord(expectedEntry.key, expectedEntry.value)));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Expect each entry of this scan to satisfy the given predicate. All entries are checked and the first few
+     * failures are reported with their position in the scan.
+     *
+     * @param predicate condition that every entry must satisfy
+     * @return the current {@code StoreScan}
+     */
+    public StoreScan<K, V> allSatisfy(final Predicate<? super KeyValue<K, V>> predicate) {
+        final MismatchReport report = new MismatchReport();
+        try (final KeyValueIterator<K, V> iterator = this.iteratorSupplier.get()) {
+            long index = 0L;
+            while (iterator.hasNext()) {
+                final KeyValue<K, V> entry = iterator.next();
+                if (!predicate.test(entry)) {
+                    report.add("entries not satisfying the predicate",
+                            String.format("#%d %s", index, MismatchReport.formatRecord(entry.key, entry.value)));
+                }
+                index++;
+            }
+        }
+        report.throwIfNotEmpty("Not all entries in " + this.description + " satisfy the predicate");
+        return this;
+    }
+}
@@ -28,7 +28,6 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 import lombok.NonNull;
 import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.streams.TopologyTestDriver;
 
 /**
  * <p>Represents the {@link TestOutput} with {@link org.apache.kafka.streams.kstream.KStream} semantics.</p>
@@ -36,8 +35,9 @@ import org.apache.kafka.streams.TopologyTestDriver;
  * <p>Note: The StreamOutput is a one-time iterable. Cache it if you need to iterate several times.</p>
  */
 class StreamOutput<K, V> extends BaseOutput<K, V> {
-    StreamOutput(final TopologyTestDriver testDriver, final String topic, final SerdeConfig<K, V> serdeConfig) {
-        super(testDriver, topic, serdeConfig);
+    StreamOutput(final OutputReader outputReader, final String topic, final SerdeConfig<K, V> serdeConfig,
+            final OutputListeners outputListeners) {
+        super(outputReader, topic, serdeConfig, outputListeners);
     }
 
     /**
@@ -84,8 +84,8 @@ class StreamOutput<K, V> extends BaseOutput<K, V> {
     // Non-public methods
     // ==================
     @Override
-    protected <VR, KR> TestOutput<KR, VR> create(final TopologyTestDriver testDriver, final String topic,
-            final SerdeConfig<KR, VR> serdeConfig) {
-        return new StreamOutput<>(testDriver, topic, serdeConfig);
+    protected <VR, KR> TestOutput<KR, VR> create(final OutputReader outputReader, final String topic,
+            final SerdeConfig<KR, VR> serdeConfig, final OutputListeners outputListeners) {
+        return new StreamOutput<>(outputReader, topic, serdeConfig, outputListeners);
     }
 }
@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>Order-independent digest of the serialized contents of a table.</p>
+ * <p>Entries are distributed into {@value #BUCKET_COUNT} buckets by the hash of their serialized key. Each bucket
+ * hash is the sum of the hashes of its serialized key-value pairs, so it does not depend on the order in which
+ * entries have been added and entries can be replaced in constant time. The root hash combines all bucket hashes
+ * like the root of a Merkle tree. If two digests differ, comparing their buckets narrows down the keys that need to
+ * be compared.</p>
+ *
+ * @see TestOutput#tableDigest()
+ */
+public final class TableDigest {
+    /**
+     * Number of buckets of each digest.
+     */
+    public static final int BUCKET_COUNT = 1024;
+    private static final int BUCKET_BITS = Integer.numberOfTrailingZeros(BUCKET_COUNT);
+    private static final long NULL_HASH = 0x9e3779b97f4a7c15L;
+    private final long[] bucketHashes = new long[BUCKET_COUNT];
+    private long size;
+
+    /**
+     * Get the number of entries in the table.
+     *
+     * @return number of entries
+     */
+    public long getSize() {
+        return this.size;
+    }
+
+    /**
+     * Get the hash of all entries whose keys fall into the given bucket.
+     *
+     * @param bucket bucket between {@code 0} and {@link #BUCKET_COUNT}
+     * @return hash of the bucket
+     */
+    public long getBucketHash(final int bucket) {
+        return this.bucketHashes[bucket];
+    }
+
+    /**
+     * Get the hash of all entries of the table.
+     *
+     * @return root hash
+     */
+    public long getRootHash() {
+        long hash = this.size;
+        for (final long bucketHash : this.bucketHashes) {
+            hash = Hashing.combine(hash, bucketHash);
+        }
+        return hash;
+    }
+
+    /**
+     * Get the buckets whose hashes differ from the ones of the other digest. Only keys in these buckets can have
+     * different entries.
+     *
+     * @param other digest to compare to
+     * @return differing buckets in ascending order
+     */
+    public List<Integer> getDifferingBuckets(final TableDigest other) {
+        final List<Integer> differingBuckets = new ArrayList<>();
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            if (this.bucketHashes[bucket] != other.bucketHashes[bucket]) {
+                differingBuckets.add(bucket);
+            }
+        }
+        return differingBuckets;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TableDigest)) {
+            return false;
+        }
+        final TableDigest other = (TableDigest) o;
+        return this.size == other.size && Arrays.equals(this.bucketHashes, other.bucketHashes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.getRootHash());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TableDigest{size=%d, root=%016x}", this.size, this.getRootHash());
+    }
+
+    static long hash(final byte[] data) {
+        return data == null ? NULL_HASH : Hashing.hash64(data);
+    }
+
+    static int bucket(final long keyHash) {
+        return (int) (keyHash >>> (Long.SIZE - BUCKET_BITS));
+    }
+
+    void add(final long keyHash, final long valueHash) {
+        this.bucketHashes[bucket(keyHash)] += Hashing.combine(keyHash, valueHash);
+        this.size++;
+    }
+
+    void remove(final long keyHash, final long valueHash) {
+        this.bucketHashes[bucket(keyHash)] -= Hashing.combine(keyHash, valueHash);
+        this.size--;
+    }
+}
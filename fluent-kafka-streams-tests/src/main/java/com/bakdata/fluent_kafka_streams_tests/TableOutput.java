@@ -29,14 +29,14 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import lombok.NonNull;
 import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.streams.TopologyTestDriver;
 
 class TableOutput<K, V> extends BaseOutput<K, V> {
     private final Map<K, ProducerRecord<K, V>> table = new LinkedHashMap<>();
     private Iterator<ProducerRecord<K, V>> tableIterator;
 
-    TableOutput(final TopologyTestDriver testDriver, final String topic, final SerdeConfig<K, V> serdeConfig) {
-        super(testDriver, topic, serdeConfig);
+    TableOutput(final OutputReader outputReader, final String topic, final SerdeConfig<K, V> serdeConfig,
+            final OutputListeners outputListeners) {
+        super(outputReader, topic, serdeConfig, outputListeners);
     }
 
     /**
@@ -76,8 +76,8 @@ class TableOutput<K, V> extends BaseOutput<K, V> {
     // Non-public methods
     // ==================
     @Override
-    protected <VR, KR> TestOutput<KR, VR> create(final TopologyTestDriver testDriver, final String topic,
-            final SerdeConfig<KR, VR> serdeConfig) {
-        return new TableOutput<>(testDriver, topic, serdeConfig);
+    protected <VR, KR> TestOutput<KR, VR> create(final OutputReader outputReader, final String topic,
+            final SerdeConfig<KR, VR> serdeConfig, final OutputListeners outputListeners) {
+        return new TableOutput<>(outputReader, topic, serdeConfig, outputListeners);
     }
 }
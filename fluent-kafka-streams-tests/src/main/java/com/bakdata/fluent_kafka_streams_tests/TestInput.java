@@ -25,6 +25,8 @@
 package com.bakdata.fluent_kafka_streams_tests;
 
 import com.bakdata.kafka.Preconfigured;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Serde;
@@ -39,12 +41,15 @@ import org.apache.kafka.streams.test.TestRecord;
  * @param <V> the value type of the input topic
  */
 public class TestInput<K, V> {
-    private final TopologyTestDriver testDriver;
+    private final InputTopicCache inputTopicCache;
     private final TestInputTopic<K, V> testInputTopic;
     private final String topic;
     private final SerdeConfig<K, V> serdeConfig;
+    private final ProcessingObserver processingObserver;
+    private final Histogram processingLatencies;
 
     private Long timestamp;
+    private HeaderTemplate headerTemplate;
 
     /**
      * <p>Constructor for the test input topic.</p>
@@ -54,14 +59,23 @@ public class TestInput<K, V> {
      * @param serdeConfig configuration for serdes.
      */
     protected TestInput(final TopologyTestDriver testDriver, final String topic, final SerdeConfig<K, V> serdeConfig) {
-        this.testDriver = testDriver;
+        this(new InputTopicCache(testDriver), topic, serdeConfig, new ProcessingObserver() {});
+    }
+
+    TestInput(final InputTopicCache inputTopicCache, final String topic, final SerdeConfig<K, V> serdeConfig,
+            final ProcessingObserver processingObserver) {
+        this(inputTopicCache, topic, serdeConfig, processingObserver, new Histogram());
+    }
+
+    private TestInput(final InputTopicCache inputTopicCache, final String topic, final SerdeConfig<K, V> serdeConfig,
+            final ProcessingObserver processingObserver, final Histogram processingLatencies) {
+        this.inputTopicCache = inputTopicCache;
         this.topic = topic;
         this.serdeConfig = serdeConfig;
+        this.processingObserver = processingObserver;
+        this.processingLatencies = processingLatencies;
 
-        this.testInputTopic = this.testDriver.createInputTopic(this.topic,
-                this.serdeConfig.getKeySerde().serializer(),
-                this.serdeConfig.getValueSerde().serializer()
-        );
+        this.testInputTopic = this.inputTopicCache.get(this.topic, this.serdeConfig);
     }
 
     /**
@@ -199,7 +213,8 @@ public class TestInput<K, V> {
     }
 
     private <KR, VR> TestInput<KR, VR> with(final SerdeConfig<KR, VR> newSerdeConfig) {
-        return new TestInput<>(this.testDriver, this.topic, newSerdeConfig);
+        return new TestInput<>(this.inputTopicCache, this.topic, newSerdeConfig, this.processingObserver,
+                this.processingLatencies);
     }
 
     /**
@@ -227,6 +242,19 @@ public class TestInput<K, V> {
         return this.at(unit.toMillis(timestamp));
     }
 
+    /**
+     * <p>Attach headers to all following records that are added without headers.</p>
+     * <p>The header instances of the template are shared by all records, so that they are not built and encoded for
+     * each record. Use like this: {@code myInput.attachHeaders(tracingHeaders).add(myValue)}.</p>
+     *
+     * @param headers Headers to attach, {@code null} to stop attaching headers.
+     * @return This input, so it can be chained.
+     */
+    public TestInput<K, V> attachHeaders(final HeaderTemplate headers) {
+        this.headerTemplate = headers;
+        return this;
+    }
+
     /**
      * Add a value to the input topic. The key will default to null. If a timestamp was specified with {@link #at(long,
      * TimeUnit)} or {@link #at(long)}, that timestamp will be used here. Otherwise, the timestamp will default to 0.
@@ -290,11 +318,113 @@ public class TestInput<K, V> {
         return this.addInternal(key, value, timestamp, headers);
     }
 
+    /**
+     * <p>Add an already serialized key and value to the input topic, bypassing the serdes of this input.</p>
+     * <p>The remaining bytes of each buffer are used. If a buffer is backed by an array that it covers completely,
+     * the array is passed to the {@link TopologyTestDriver} without copying. Buffers must not be modified until this
+     * method returns. If a timestamp was specified with {@link #at(long, TimeUnit)} or {@link #at(long)}, that
+     * timestamp will be used here. Otherwise, the timestamp will default to 0.</p>
+     *
+     * @param key Serialized key to be inserted into the topic, may be {@code null}.
+     * @param value Serialized value to be inserted into topic, may be {@code null}.
+     * @return This input, so it can be chained.
+     */
+    public TestInput<K, V> addSerialized(final ByteBuffer key, final ByteBuffer value) {
+        return this.addSerializedInternal(key, value, this.timestamp, null);
+    }
+
+    /**
+     * Add an already serialized key and value to the input topic with a given timestamp and headers, bypassing the
+     * serdes of this input.
+     *
+     * @param key Serialized key to be inserted into the topic, may be {@code null}.
+     * @param value Serialized value to be inserted into topic, may be {@code null}.
+     * @param timestamp Event time at which the event should be inserted.
+     * @param headers Record headers.
+     * @return This input, so it can be chained.
+     * @see #addSerialized(ByteBuffer, ByteBuffer)
+     */
+    public TestInput<K, V> addSerialized(final ByteBuffer key, final ByteBuffer value, final long timestamp,
+            final Headers headers) {
+        return this.addSerializedInternal(key, value, timestamp, headers);
+    }
+
+    /**
+     * <p>Get the time in nanoseconds that each record added to this input spent being processed by the topology.</p>
+     * <p>The measured time covers serializing the record and processing it in the {@link TopologyTestDriver}.
+     * Latencies are shared with copies of this input created by changing serdes or types.</p>
+     *
+     * @return histogram of processing latencies in nanoseconds
+     */
+    public Histogram getProcessingLatencies() {
+        return this.processingLatencies;
+    }
+
+    /**
+     * Discard all processing latencies recorded so far, e.g., to exclude warm-up records from
+     * {@link #expectProcessingLatency(double, Duration)}.
+     *
+     * @return This input, so it can be chained.
+     */
+    public TestInput<K, V> resetProcessingLatencies() {
+        this.processingLatencies.reset();
+        return this;
+    }
+
+    /**
+     * <p>Expect the processing latency of records added to this input to be at most the given budget at the given
+     * percentile.</p>
+     * <p>Use like this: {@code myInput.expectProcessingLatency(99.0, Duration.ofNanos(500_000))}.</p>
+     *
+     * @param percentile percentile between {@code 0} and {@code 100}
+     * @param budget maximum processing latency at the given percentile
+     * @return This input, so it can be chained.
+     * @see #getProcessingLatencies()
+     */
+    public TestInput<K, V> expectProcessingLatency(final double percentile, final Duration budget) {
+        if (this.processingLatencies.getCount() == 0L) {
+            throw new AssertionError("No records have been added to input " + this.topic);
+        }
+        final long latency = this.processingLatencies.getValueAtPercentile(percentile);
+        if (latency > budget.toNanos()) {
+            throw new AssertionError(String.format(
+                    "p%s processing latency of input %s is %.1f\u00b5s but budget is %.1f\u00b5s over %d records: %s",
+                    percentile, this.topic, latency / 1_000.0, budget.toNanos() / 1_000.0,
+                    this.processingLatencies.getCount(), this.processingLatencies));
+        }
+        return this;
+    }
+
     // ==================
     // Non-public methods
     // ==================
     private TestInput<K, V> addInternal(final K key, final V value, final Long timestamp, final Headers headers) {
-        this.testInputTopic.pipeInput(new TestRecord<>(key, value, headers, timestamp == null ? 0 : timestamp));
+        final TestRecord<K, V> testRecord =
+                new TestRecord<>(key, value, this.orAttachedHeaders(headers), timestamp == null ? 0 : timestamp);
+        return this.pipe(this.testInputTopic, testRecord);
+    }
+
+    private TestInput<K, V> addSerializedInternal(final ByteBuffer key, final ByteBuffer value, final Long timestamp,
+            final Headers headers) {
+        final TestRecord<ByteBuffer, ByteBuffer> testRecord =
+                new TestRecord<>(key, value, this.orAttachedHeaders(headers), timestamp == null ? 0 : timestamp);
+        return this.pipe(this.inputTopicCache.getSerialized(this.topic), testRecord);
+    }
+
+    private Headers orAttachedHeaders(final Headers headers) {
+        if (headers != null || this.headerTemplate == null) {
+            return headers;
+        }
+        return this.headerTemplate.getHeaders();
+    }
+
+    private <KR, VR> TestInput<K, V> pipe(final TestInputTopic<KR, VR> inputTopic,
+            final TestRecord<KR, VR> testRecord) {
+        this.processingObserver.beforeProcessing();
+        final long start = System.nanoTime();
+        inputTopic.pipeInput(testRecord);
+        this.processingLatencies.record(System.nanoTime() - start);
+        this.processingObserver.afterProcessing();
         return this;
     }
 }
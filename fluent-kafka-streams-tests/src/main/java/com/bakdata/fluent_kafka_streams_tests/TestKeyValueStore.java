@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.state.KeyValueStore;
+
+/**
+ * <p>Represents a key-value store of the tested app via {@link TestTopology}.</p>
+ * <p>Timestamped key-value stores can be accessed as well. In that case, only values without timestamps are
+ * returned.</p>
+ *
+ * @param <K> the key type of the store
+ * @param <V> the value type of the store
+ * @see TestTopology#keyValueStore(String)
+ */
+public final class TestKeyValueStore<K, V> extends BaseStore {
+    private final KeyValueStore<K, V> store;
+
+    TestKeyValueStore(final String name, final KeyValueStore<K, V> store) {
+        super(name);
+        this.store = store;
+    }
+
+    /**
+     * Look up the value of a key.
+     *
+     * @param key key to look up
+     * @return value of the key or {@code null} if the key is not present
+     */
+    public V get(final K key) {
+        return this.store.get(key);
+    }
+
+    /**
+     * Get the approximate number of entries in the store as reported by {@link KeyValueStore#approximateNumEntries()}.
+     *
+     * @return approximate number of entries
+     */
+    public long getApproximateSize() {
+        return this.store.approximateNumEntries();
+    }
+
+    /**
+     * Scan all entries whose keys are in the given range, both inclusive.
+     *
+     * @param from first key of the range or {@code null} to start at the first key of the store
+     * @param to last key of the range or {@code null} to end at the last key of the store
+     * @return {@link StoreScan} over the entries in key order
+     */
+    public StoreScan<K, V> range(final K from, final K to) {
+        return new StoreScan<>(this.describe(String.format("range ['%s', '%s']", from, to)),
+                () -> this.store.range(from, to));
+    }
+
+    /**
+     * Scan all entries whose serialized keys start with the serialized prefix.
+     *
+     * @param prefix prefix of keys
+     * @param prefixSerializer serializer of the prefix
+     * @param <P> the type of the prefix
+     * @return {@link StoreScan} over the entries in key order
+     */
+    public <P> StoreScan<K, V> prefixScan(final P prefix, final Serializer<P> prefixSerializer) {
+        return new StoreScan<>(this.describe(String.format("prefix '%s'", prefix)),
+                () -> this.store.prefixScan(prefix, prefixSerializer));
+    }
+
+    /**
+     * Scan all entries of the store.
+     *
+     * @return {@link StoreScan} over the entries in key order
+     */
+    public StoreScan<K, V> all() {
+        return new StoreScan<>(this.describe("all entries"), this.store::all);
+    }
+
+    /**
+     * Expect the key to have the given value.
+     *
+     * @param key key to look up
+     * @param expectedValue expected value
+     * @return the current {@code TestKeyValueStore}
+     */
+    public TestKeyValueStore<K, V> expectValue(final K key, final V expectedValue) {
+        this.expectEqual(expectedValue, this.get(key), String.format("key '%s'", key));
+        return this;
+    }
+
+    /**
+     * Expect the key not to be present.
+     *
+     * @param key key to look up
+     * @return the current {@code TestKeyValueStore}
+     */
+    public TestKeyValueStore<K, V> expectNoValue(final K key) {
+        return this.expectValue(key, null);
+    }
+
+    /**
+     * Expect the store to contain the given number of entries. Entries are counted exactly by streaming over the
+     * store.
+     *
+     * @param expectedSize expected number of entries
+     * @return the current {@code TestKeyValueStore}
+     * @see #getApproximateSize()
+     */
+    public TestKeyValueStore<K, V> expectSize(final long expectedSize) {
+        this.all().expectCount(expectedSize);
+        return this;
+    }
+}
@@ -25,9 +25,18 @@
 package com.bakdata.fluent_kafka_streams_tests;
 
 import com.bakdata.kafka.Preconfigured;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.streams.KeyValue;
 
 
 /**
@@ -164,6 +173,27 @@ public interface TestOutput<K, V> extends Iterable<ProducerRecord<K, V>> {
      */
     ProducerRecord<K, V> readOneRecord();
 
+    /**
+     * <p>Reads the next record from the output without deserializing it.</p>
+     * <p>Key and value are {@link ByteBuffer} views of the bytes produced by the topology. No copy is made, so the
+     * buffers must not be modified. Records are always read with {@link org.apache.kafka.streams.kstream.KStream}
+     * semantics and are consumed, i.e., they are not returned by {@link #readOneRecord()} afterwards.</p>
+     *
+     * @return The next serialized record in the output stream. {@code null} if no more records are present.
+     * @see #deserialize(ProducerRecord)
+     */
+    ProducerRecord<ByteBuffer, ByteBuffer> readOneSerializedRecord();
+
+    /**
+     * Deserializes a record read by {@link #readOneSerializedRecord()} using the serdes of this output. Serdes
+     * supporting {@link org.apache.kafka.common.serialization.Deserializer#deserialize(String, Headers, ByteBuffer)}
+     * read directly from the buffers.
+     *
+     * @param serializedRecord record to deserialize
+     * @return deserialized record
+     */
+    ProducerRecord<K, V> deserialize(ProducerRecord<ByteBuffer, ByteBuffer> serializedRecord);
+
     /**
      * Reads the next record and creates an {@link Expectation} for it.
      *
@@ -178,6 +208,42 @@ public interface TestOutput<K, V> extends Iterable<ProducerRecord<K, V>> {
      */
     Expectation<K, V> expectNoMoreRecord();
 
+    /**
+     * <p>Reads the next record without deserializing it and creates a {@link SerializedExpectation} for it.</p>
+     * <p>Records are always read with {@link org.apache.kafka.streams.kstream.KStream} semantics.</p>
+     *
+     * @return A {@link SerializedExpectation} containing the next serialized record from the output.
+     */
+    SerializedExpectation<K, V> expectNextSerializedRecord();
+
+    /**
+     * <p>Reads all remaining records without deserializing them and expects their bytes to equal the expected
+     * records in order, serialized with the serdes of this output.</p>
+     * <p>Each expected record is serialized once. Records are always read with
+     * {@link org.apache.kafka.streams.kstream.KStream} semantics. Mismatches are reported by position.</p>
+     *
+     * @param expectedRecords records to expect in order
+     * @return the current output, so it can be chained
+     * @throws AssertionError if the serialized output does not match the expected records
+     */
+    TestOutput<K, V> expectSerializedRecords(List<KeyValue<K, V>> expectedRecords);
+
+    /**
+     * Reads all remaining records without deserializing them and expects their bytes to equal the expected records
+     * in order, serialized with the given serdes.
+     *
+     * @param expectedRecords records to expect in order
+     * @param keySerde serde to serialize expected keys
+     * @param valueSerde serde to serialize expected values
+     * @param <KR> type of expected keys
+     * @param <VR> type of expected values
+     * @return the current output, so it can be chained
+     * @throws AssertionError if the serialized output does not match the expected records
+     * @see #expectSerializedRecords(List)
+     */
+    <KR, VR> TestOutput<K, V> expectSerializedRecords(List<KeyValue<KR, VR>> expectedRecords, Serde<KR> keySerde,
+            Serde<VR> valueSerde);
+
     /**
      * <p>Interpret the output with {@link org.apache.kafka.streams.kstream.KTable} semantics (each key only once).</p>
      * <p>Note: once the first value of the stream has been read or the iterator has be called, you cannot switch
@@ -203,5 +269,215 @@ public interface TestOutput<K, V> extends Iterable<ProducerRecord<K, V>> {
      * @return A {@link java.util.List} representing the output
      */
     List<ProducerRecord<K, V>> toList();
+
+    /**
+     * <p>Reads all remaining records from the output and aggregates them into {@link OutputStatistics}.</p>
+     * <p>Records are not deserialized and not retained, so that memory consumption is constant independent of the
+     * size of the output. Statistics are accumulated over all calls of this method on the same instance.</p>
+     *
+     * @return statistics of all records consumed by this method so far
+     */
+    OutputStatistics<K> stats();
+
+    /**
+     * <p>Registers a listener that is notified of each record of this output as soon as the {@link TestTopology} has
+     * processed the input record that produced it.</p>
+     * <p>Records are deserialized using the serdes of this output, so that several listeners with different serdes
+     * can be registered for the same topic. Records that have already been produced but not read yet are passed to
+     * the listener immediately. Records passed to listeners are consumed, i.e., they are not returned by any
+     * {@code TestOutput} anymore. Exceptions thrown by the listener, e.g., {@link AssertionError}, are propagated to
+     * the {@link TestInput} that added the input record.</p>
+     *
+     * @param listener consumer that accepts each record of this output
+     * @return {@link OutputSubscription} that stops notifying the listener once closed
+     */
+    OutputSubscription subscribe(Consumer<? super ProducerRecord<K, V>> listener);
+
+    /**
+     * <p>Interpret the keys of the output as {@link org.apache.kafka.streams.kstream.Windowed} keys of time windows
+     * and index the output by window.</p>
+     * <p>The current key serde is used to deserialize the keys within the windows.</p>
+     *
+     * @param windowSize size of the time windows
+     * @return {@link WindowedOutput} indexing this output by window and key
+     */
+    WindowedOutput<K, V> asWindowed(Duration windowSize);
+
+    /**
+     * <p>Interpret the keys of the output as {@link org.apache.kafka.streams.kstream.Windowed} keys of time windows
+     * and index the output by window.</p>
+     *
+     * @param keySerde The serializer/deserializer to be used for the keys within the windows
+     * @param windowSize size of the time windows
+     * @return {@link WindowedOutput} indexing this output by window and key
+     */
+    <KR> WindowedOutput<KR, V> asWindowed(Serde<KR> keySerde, Duration windowSize);
+
+    /**
+     * <p>Interpret the keys of the output as {@link org.apache.kafka.streams.kstream.Windowed} keys of session
+     * windows and index the output by window.</p>
+     * <p>The current key serde is used to deserialize the keys within the windows.</p>
+     *
+     * @return {@link WindowedOutput} indexing this output by session start and key
+     */
+    WindowedOutput<K, V> asSessionWindowed();
+
+    /**
+     * <p>Interpret the keys of the output as {@link org.apache.kafka.streams.kstream.Windowed} keys of session
+     * windows and index the output by window.</p>
+     *
+     * @param keySerde The serializer/deserializer to be used for the keys within the windows
+     * @return {@link WindowedOutput} indexing this output by session start and key
+     */
+    <KR> WindowedOutput<KR, V> asSessionWindowed(Serde<KR> keySerde);
+
+    /**
+     * <p>Continuously consumes all records of this output and retains only those selected by the given
+     * {@link RetentionPolicy}, e.g., the last records or a random sample.</p>
+     * <p>Records are consumed as soon as the {@link TestTopology} has processed the input record that produced them,
+     * so that memory consumption stays constant for arbitrarily long test runs. Records that have already been
+     * produced but not read yet are consumed immediately.</p>
+     *
+     * @param policy policy defining which records to retain
+     * @return {@link RetainedOutput} giving access to the retained records and statistics of all records
+     */
+    RetainedOutput<K, V> retain(RetentionPolicy policy);
+
+    /**
+     * <p>Reads all remaining records from the output and expects that they contain the given records in any order.
+     * Additional records are allowed.</p>
+     * <p>Records are compared by key and value using a hash multiset, so the check takes linear time. The failure
+     * message summarizes missing records.</p>
+     *
+     * @param expectedRecords records to expect. Duplicates are expected as often as they occur.
+     * @return the current {@code TestOutput}
+     */
+    TestOutput<K, V> expectRecordsInAnyOrder(Collection<KeyValue<K, V>> expectedRecords);
+
+    /**
+     * <p>Reads all remaining records from the output and expects that they consist of exactly the given records in
+     * any order.</p>
+     * <p>Records are compared by key and value using a hash multiset, so the check takes linear time. The failure
+     * message summarizes missing and unexpected records.</p>
+     *
+     * @param expectedRecords records to expect. Duplicates are expected as often as they occur.
+     * @return the current {@code TestOutput}
+     */
+    TestOutput<K, V> expectContainsExactlyInAnyOrder(Collection<KeyValue<K, V>> expectedRecords);
+
+    /**
+     * <p>Reads all remaining records from the output and expects that they consist of exactly the given records,
+     * where only the order of records with the same key is checked.</p>
+     * <p>This corresponds to the ordering guarantees of Kafka, where records with the same key are written to the
+     * same partition but records of different partitions are not ordered. Records are bucketed by key in a single
+     * pass, so the check takes linear time. The failure message summarizes the first divergence per key as well as
+     * missing and unexpected records.</p>
+     *
+     * @param expectedRecords records to expect, ordered per key
+     * @return the current {@code TestOutput}
+     */
+    TestOutput<K, V> expectRecordsInKeyOrder(List<KeyValue<K, V>> expectedRecords);
+
+    /**
+     * <p>Reads all remaining records from the output and expects them to be equal to the given records in the given
+     * order.</p>
+     * <p>On failure, a minimal edit script between the expected and the actual records is reported in hunks similar
+     * to a unified diff, so that inserted, dropped, and reordered records can be told apart. Expected records are
+     * prefixed by {@code -}, actual records by {@code +}.</p>
+     *
+     * @param expectedRecords expected key-value pairs in order
+     * @return the current {@code TestOutput}
+     */
+    TestOutput<K, V> expectContainsExactly(List<KeyValue<K, V>> expectedRecords);
+
+    /**
+     * <p>Reads all remaining records from the output and expects each of them to satisfy the given predicate.</p>
+     * <p>Records are read into chunks which are verified in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool}, so the predicate must be thread-safe. Records for which the predicate
+     * returns {@code false} or throws an exception are reported with their index in the output. Only the first few
+     * failures are shown.</p>
+     *
+     * @param predicate condition that every record must satisfy
+     * @return the current {@code TestOutput}
+     */
+    TestOutput<K, V> allSatisfy(Predicate<? super ProducerRecord<K, V>> predicate);
+
+    /**
+     * <p>Reads records from the output until one satisfies the given predicate and creates an {@link Expectation} for
+     * it.</p>
+     * <p>Records are read one by one and reading stops at the first match, so records after it remain in the output.
+     * Records before the match are consumed. For {@link TestTopology#tableOutput()}, the whole output is read to build
+     * the table before the first record is checked.</p>
+     *
+     * @param predicate condition that the record must satisfy
+     * @return An {@code Expectation} containing the first matching record.
+     */
+    Expectation<K, V> expectAnyRecord(Predicate<? super ProducerRecord<K, V>> predicate);
+
+    /**
+     * <p>Reads as many records as expected from the output and expects them to be equal to the given records in the
+     * given order.</p>
+     * <p>Reading stops at the first diverging record, so records after it remain in the output.</p>
+     *
+     * @param expectedRecords expected first key-value pairs in order
+     * @return the current {@code TestOutput}
+     */
+    TestOutput<K, V> expectFirst(List<KeyValue<K, V>> expectedRecords);
+
+    /**
+     * <p>Reads all remaining records from the output and expects none of them to satisfy the given predicate.</p>
+     * <p>Reading stops at the first matching record, which is reported.</p>
+     *
+     * @param predicate condition that no record may satisfy
+     * @return the current {@code TestOutput}
+     */
+    TestOutput<K, V> expectNoRecordMatching(Predicate<? super ProducerRecord<K, V>> predicate);
+
+    /**
+     * <p>Reads all remaining records from the output and computes a digest of the table they describe.</p>
+     * <p>Records are interpreted as a changelog, i.e., only the latest value per key is part of the table and records
+     * with {@code null} values delete their key. The digest is computed over serialized keys and values and does not
+     * depend on the order of keys, so digests of huge tables can be compared cheaply.</p>
+     *
+     * @return {@link TableDigest} of the table
+     */
+    TableDigest tableDigest();
+
+    /**
+     * <p>Reads all remaining records from the output and expects the table they describe to equal the given
+     * table.</p>
+     * <p>Records are interpreted as a changelog, i.e., only the latest value per key is part of the table and records
+     * with {@code null} values delete their key. Keys with {@code null} values in the expected table are expected to
+     * be absent. Both tables are compared via their {@link TableDigest} first. Only keys in buckets with
+     * differing hashes are compared individually to report missing, unexpected, and differing entries.</p>
+     *
+     * @param expectedTable expected latest value per key
+     * @return the current {@code TestOutput}
+     */
+    TestOutput<K, V> expectTableEquals(Map<K, V> expectedTable);
+
+    /**
+     * <p>Reads all remaining records from the output and expects them to match the given snapshot file.</p>
+     * <p>The snapshot contains one line per record with its timestamp, key, and value. Headers are not part of the
+     * snapshot. Records are compared one by one while streaming the snapshot, so memory consumption is constant. The
+     * failure message shows the first diverging record together with the preceding records.</p>
+     * <p>If the system property {@code fluent.kafka.streams.tests.updateSnapshots} is {@code true}, the snapshot is
+     * rewritten with the current output instead.</p>
+     *
+     * @param snapshot path of the snapshot file
+     * @return the current {@code TestOutput}
+     * @see #writeSnapshot(Path)
+     */
+    TestOutput<K, V> matchesSnapshot(Path snapshot);
+
+    /**
+     * Reads all remaining records from the output and writes them to the given snapshot file, replacing any existing
+     * content.
+     *
+     * @param snapshot path of the snapshot file
+     * @return the current {@code TestOutput}
+     * @see #matchesSnapshot(Path)
+     */
+    TestOutput<K, V> writeSnapshot(Path snapshot);
 }
 
@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.time.Instant;
+import org.apache.kafka.streams.kstream.Windowed;
+import org.apache.kafka.streams.state.SessionStore;
+
+/**
+ * Represents a session store of the tested app via {@link TestTopology}.
+ *
+ * @param <K> the key type of the store
+ * @param <V> the aggregate type of the store
+ * @see TestTopology#sessionStore(String)
+ */
+public final class TestSessionStore<K, V> extends BaseStore {
+    private final SessionStore<K, V> store;
+
+    TestSessionStore(final String name, final SessionStore<K, V> store) {
+        super(name);
+        this.store = store;
+    }
+
+    /**
+     * Look up the aggregate of the session of a key with the given bounds.
+     *
+     * @param key key to look up
+     * @param sessionStart start of the session
+     * @param sessionEnd end of the session
+     * @return aggregate of the session or {@code null} if there is no such session
+     */
+    public V get(final K key, final Instant sessionStart, final Instant sessionEnd) {
+        return this.store.fetchSession(key, sessionStart.toEpochMilli(), sessionEnd.toEpochMilli());
+    }
+
+    /**
+     * Scan all sessions of a key.
+     *
+     * @param key key to scan
+     * @return {@link StoreScan} over sessions and aggregates in time order
+     */
+    public StoreScan<Windowed<K>, V> fetch(final K key) {
+        return new StoreScan<>(this.describe(String.format("sessions of key '%s'", key)), () -> this.store.fetch(key));
+    }
+
+    /**
+     * Scan all sessions of a key that end at or after {@code earliestSessionEnd} and start at or before
+     * {@code latestSessionStart}.
+     *
+     * @param key key to scan
+     * @param earliestSessionEnd earliest end of a session
+     * @param latestSessionStart latest start of a session
+     * @return {@link StoreScan} over sessions and aggregates in time order
+     */
+    public StoreScan<Windowed<K>, V> findSessions(final K key, final Instant earliestSessionEnd,
+            final Instant latestSessionStart) {
+        return new StoreScan<>(this.describe(String.format("sessions of key '%s' between %s and %s", key,
+                earliestSessionEnd, latestSessionStart)), () -> this.store.findSessions(key,
+                earliestSessionEnd.toEpochMilli(), latestSessionStart.toEpochMilli()));
+    }
+
+    /**
+     * Expect the session of a key with the given bounds to have the given aggregate.
+     *
+     * @param key key to look up
+     * @param sessionStart start of the session
+     * @param sessionEnd end of the session
+     * @param expectedValue expected aggregate
+     * @return the current {@code TestSessionStore}
+     */
+    public TestSessionStore<K, V> expectValue(final K key, final Instant sessionStart, final Instant sessionEnd,
+            final V expectedValue) {
+        this.expectEqual(expectedValue, this.get(key, sessionStart, sessionEnd),
+                String.format("key '%s' in session from %s to %s", key, sessionStart, sessionEnd));
+        return this;
+    }
+}
@@ -25,6 +25,7 @@
 package com.bakdata.fluent_kafka_streams_tests;
 
 import com.bakdata.kafka.Configurator;
+import com.bakdata.kafka.Preconfigured;
 import com.bakdata.kafka.util.TopologyInformation;
 import java.io.File;
 import java.io.IOException;
@@ -42,12 +43,17 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.kafka.common.serialization.Serde;
 import org.apache.kafka.streams.StreamsConfig;
 import org.apache.kafka.streams.Topology;
 import org.apache.kafka.streams.TopologyDescription;
 import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.SessionStore;
+import org.apache.kafka.streams.state.VersionedKeyValueStore;
+import org.apache.kafka.streams.state.WindowStore;
 
 /**
  * <p>Represents the main interaction with Kafka for testing purposes. Handles all inputs and outputs of the
@@ -110,6 +116,20 @@ public class TestTopology<DefaultK, DefaultV> implements AutoCloseable {
     private Path stateDirectory;
     private TopologyDescription topologyDescription;
     private TopologyInformation topologyInformation;
+    @Getter(AccessLevel.NONE)
+    private final ProcessingObservers processingObservers = new ProcessingObservers();
+    @Getter(AccessLevel.NONE)
+    private OutputSequencer outputSequencer;
+    @Getter(AccessLevel.NONE)
+    private OutputListeners outputListeners;
+    @Getter(AccessLevel.NONE)
+    private OutputReader outputReader;
+    @Getter(AccessLevel.NONE)
+    private InputTopicCache inputTopicCache;
+    @Getter(AccessLevel.NONE)
+    private SerdeConfig<DefaultK, DefaultV> defaultSerdeConfig;
+    @Getter(AccessLevel.NONE)
+    private SerdeCache serdeCache;
 
     /**
      * Used by wither methods.
@@ -161,6 +181,115 @@ public class TestTopology<DefaultK, DefaultV> implements AutoCloseable {
         this(props -> topology, properties);
     }
 
+    /**
+     * <p>Configures the application and all serdes to use the given schema registry.</p>
+     * <p>The URL of the registry is passed to the topology factory and to all serdes configured by this
+     * {@code TestTopology} as {@value SchemaRegistry#URL_CONFIG}.</p>
+     *
+     * @param schemaRegistry schema registry to use
+     * @return Copy of current {@code TestTopology} using the provided schema registry
+     */
+    public TestTopology<DefaultK, DefaultV> withSchemaRegistry(final SchemaRegistry schemaRegistry) {
+        final Map<String, Object> newProperties = new HashMap<>(this.userProperties);
+        newProperties.put(SchemaRegistry.URL_CONFIG, schemaRegistry.getUrl());
+        return this.with(this.topologyFactory, newProperties, this.defaultKeySerde, this.defaultValueSerde);
+    }
+
+    /**
+     * <p>Measures the time spent and bytes processed by serdes per topic.</p>
+     * <p>The default serdes of the topology are wrapped in {@link TimedSerde}, as are all serdes used by inputs and
+     * outputs of this {@code TestTopology}. Serdes passed explicitly to operators inside the topology are not
+     * measured. The statistics are available using {@link #getSerdeStatistics()}.</p>
+     *
+     * @return Copy of current {@code TestTopology} collecting serde statistics
+     */
+    public TestTopology<DefaultK, DefaultV> withSerdeStatistics() {
+        final Map<String, Object> newProperties = new HashMap<>(this.userProperties);
+        newProperties.put(SerdeStatistics.STATISTICS_CONFIG, new SerdeStatistics());
+        return this.with(this.topologyFactory, newProperties, this.defaultKeySerde, this.defaultValueSerde);
+    }
+
+    /**
+     * Get the time spent and bytes processed by serdes per topic.
+     *
+     * @return statistics collected since this {@code TestTopology} has been created
+     * @throws IllegalStateException if serde statistics have not been enabled using {@link #withSerdeStatistics()}
+     */
+    public SerdeStatistics getSerdeStatistics() {
+        final SerdeStatistics statistics = this.findSerdeStatistics();
+        if (statistics == null) {
+            throw new IllegalStateException("Serde statistics are not enabled. Use #withSerdeStatistics()");
+        }
+        return statistics;
+    }
+
+    /**
+     * <p>Replaces Confluent Avro and Protobuf serdes by {@link BinaryAvroSerde} and {@link BinaryProtobufSerde},
+     * which do not require a schema registry.</p>
+     * <p>Default serdes of the topology are replaced, as are all serdes used by inputs and outputs of this
+     * {@code TestTopology}. Serdes passed explicitly to operators inside the topology are not replaced, so records
+     * exchanged with such operators cannot be read. Schemas are registered when records are serialized.</p>
+     *
+     * @return Copy of current {@code TestTopology} using binary serdes
+     * @see #withBinarySerdes(BinarySchemas)
+     */
+    public TestTopology<DefaultK, DefaultV> withBinarySerdes() {
+        return this.withBinarySerdes(new BinarySchemas());
+    }
+
+    /**
+     * Replaces Confluent Avro and Protobuf serdes by binary serdes resolving schemas from the given
+     * {@code BinarySchemas}. Use this to register schemas up front, e.g., for records piped as raw bytes.
+     *
+     * @param schemas schemas known to the binary serdes
+     * @return Copy of current {@code TestTopology} using binary serdes
+     * @see #withBinarySerdes()
+     */
+    public TestTopology<DefaultK, DefaultV> withBinarySerdes(final BinarySchemas schemas) {
+        final Map<String, Object> newProperties = new HashMap<>(this.userProperties);
+        newProperties.put(BinarySchemas.SCHEMAS_CONFIG, schemas);
+        return this.with(this.topologyFactory, newProperties, this.defaultKeySerde, this.defaultValueSerde);
+    }
+
+    /**
+     * <p>Measures the serialized size of output records per topic and estimates their size with each compression
+     * codec, using producer batches of {@value PayloadStatistics#DEFAULT_BATCH_SIZE} bytes.</p>
+     * <p>Records are accounted for when they are read by any output. The statistics are available using
+     * {@link #getPayloadStatistics()}.</p>
+     *
+     * @return Copy of current {@code TestTopology} collecting payload statistics
+     */
+    public TestTopology<DefaultK, DefaultV> withPayloadStatistics() {
+        return this.withPayloadStatistics(PayloadStatistics.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Measures the serialized size of output records per topic and estimates their size with each compression codec.
+     *
+     * @param batchSize size of simulated producer batches in bytes, i.e., {@code batch.size} of the producer
+     * @return Copy of current {@code TestTopology} collecting payload statistics
+     * @see #withPayloadStatistics()
+     */
+    public TestTopology<DefaultK, DefaultV> withPayloadStatistics(final int batchSize) {
+        final Map<String, Object> newProperties = new HashMap<>(this.userProperties);
+        newProperties.put(PayloadStatistics.STATISTICS_CONFIG, new PayloadStatistics(batchSize));
+        return this.with(this.topologyFactory, newProperties, this.defaultKeySerde, this.defaultValueSerde);
+    }
+
+    /**
+     * Get the serialized and estimated compressed size of output records per topic.
+     *
+     * @return statistics of all output records read since this {@code TestTopology} has been created
+     * @throws IllegalStateException if payload statistics have not been enabled using {@link #withPayloadStatistics()}
+     */
+    public PayloadStatistics getPayloadStatistics() {
+        final PayloadStatistics statistics = this.findPayloadStatistics();
+        if (statistics == null) {
+            throw new IllegalStateException("Payload statistics are not enabled. Use #withPayloadStatistics()");
+        }
+        return statistics;
+    }
+
     /**
      * Get all properties that the application has set.
      */
@@ -219,6 +348,12 @@ public class TestTopology<DefaultK, DefaultV> implements AutoCloseable {
         this.properties.put(StreamsConfig.STATE_DIR_CONFIG, this.stateDirectory.toAbsolutePath().toString());
         final Topology topology = this.topologyFactory.apply(this.properties);
         this.topologyDescription = topology.describe();
+        if (this.findBinarySchemas() != null) {
+            BinarySchemas.replaceDefaultSerdes(this.properties);
+        }
+        if (this.findSerdeStatistics() != null) {
+            TimedSerde.instrumentDefaultSerdes(this.properties);
+        }
         this.testDriver = new TopologyTestDriver(topology, this.createProperties());
 
         this.inputTopics.clear();
@@ -230,6 +365,17 @@ public class TestTopology<DefaultK, DefaultV> implements AutoCloseable {
         this.outputTopics.addAll(this.topologyInformation.getExternalSinkTopics());
         this.inputTopics.addAll(this.topologyInformation.getExternalSourceTopics());
         this.inputPatterns.addAll(this.topologyInformation.getExternalSourcePatterns());
+
+        this.serdeCache = new SerdeCache(this.createConfigurator());
+        this.inputTopicCache = new InputTopicCache(this.testDriver);
+        this.defaultSerdeConfig = null;
+        this.processingObservers.clear();
+        this.outputReader = new OutputReader(this.testDriver, this.findPayloadStatistics());
+        this.outputListeners = new OutputListeners(this.outputReader);
+        this.processingObservers.add(this.outputListeners);
+        // registered after the listeners, so that emitted records are sequenced before listeners read them
+        this.outputSequencer = new OutputSequencer(this.outputReader, this.outputTopics);
+        this.processingObservers.add(this.outputSequencer);
     }
 
     @Override
@@ -263,7 +409,7 @@ public class TestTopology<DefaultK, DefaultV> implements AutoCloseable {
                 .noneMatch(p -> p.matcher(topic).matches())) {
             throw new NoSuchElementException(String.format("Input topic '%s' not found", topic));
         }
-        return new TestInput<>(this.testDriver, topic, this.createSerdeConfig());
+        return new TestInput<>(this.inputTopicCache, topic, this.getDefaultSerdeConfig(), this.processingObservers);
     }
 
     /**
@@ -296,7 +442,7 @@ public class TestTopology<DefaultK, DefaultV> implements AutoCloseable {
         if (!this.outputTopics.contains(topic)) {
             throw new NoSuchElementException(String.format("Output topic '%s' not found", topic));
         }
-        return new StreamOutput<>(this.testDriver, topic, this.createSerdeConfig());
+        return new StreamOutput<>(this.outputReader, topic, this.getDefaultSerdeConfig(), this.outputListeners);
     }
 
     /**
@@ -322,6 +468,143 @@ public class TestTopology<DefaultK, DefaultV> implements AutoCloseable {
         return this.streamOutput(topic).asTable();
     }
 
+    /**
+     * <p>Get all output topics used by the topology under test, read in the order in which the records have been
+     * produced.</p>
+     * <p>Each record is annotated with a global sequence number and the sequence number of the input record whose
+     * processing produced it. This allows checking causality across output topics, e.g., between an output topic and
+     * a dead letter queue. Records produced while processing the same input record are ordered by topic name.</p>
+     *
+     * <p>Note: The MultiplexedOutput is a one-time iterable. Cache it if you need to iterate several times.</p>
+     *
+     * @return {@link MultiplexedOutput} of all output topics
+     */
+    public MultiplexedOutput<DefaultK, DefaultV> allOutputs() {
+        return new MultiplexedOutput<>(this.outputSequencer, this.getDefaultSerdeConfig());
+    }
+
+    /**
+     * <p>Get the key-value store with the given name used by the topology under test.</p>
+     * <p>Timestamped key-value stores can be accessed as well. In that case, only values without timestamps are
+     * returned.</p>
+     *
+     * @param name name of the store
+     * @param <K> the key type of the store
+     * @param <V> the value type of the store
+     * @return {@link TestKeyValueStore} of the store
+     * @throws NoSuchElementException if there is no key-value store with that name.
+     */
+    public <K, V> TestKeyValueStore<K, V> keyValueStore(final String name) {
+        final KeyValueStore<K, V> store = this.testDriver.getKeyValueStore(name);
+        return new TestKeyValueStore<>(name, requireStore(name, "Key-value", store));
+    }
+
+    /**
+     * <p>Get the window store with the given name used by the topology under test.</p>
+     * <p>Timestamped window stores can be accessed as well. In that case, only values without timestamps are
+     * returned.</p>
+     *
+     * @param name name of the store
+     * @param <K> the key type of the store
+     * @param <V> the value type of the store
+     * @return {@link TestWindowStore} of the store
+     * @throws NoSuchElementException if there is no window store with that name.
+     */
+    public <K, V> TestWindowStore<K, V> windowStore(final String name) {
+        final WindowStore<K, V> store = this.testDriver.getWindowStore(name);
+        return new TestWindowStore<>(name, requireStore(name, "Window", store));
+    }
+
+    /**
+     * Get the session store with the given name used by the topology under test.
+     *
+     * @param name name of the store
+     * @param <K> the key type of the store
+     * @param <V> the aggregate type of the store
+     * @return {@link TestSessionStore} of the store
+     * @throws NoSuchElementException if there is no session store with that name.
+     */
+    public <K, V> TestSessionStore<K, V> sessionStore(final String name) {
+        final SessionStore<K, V> store = this.testDriver.getSessionStore(name);
+        return new TestSessionStore<>(name, requireStore(name, "Session", store));
+    }
+
+    /**
+     * Get the versioned key-value store with the given name used by the topology under test.
+     *
+     * @param name name of the store
+     * @param <K> the key type of the store
+     * @param <V> the value type of the store
+     * @return {@link TestVersionedStore} of the store
+     * @throws NoSuchElementException if there is no versioned key-value store with that name.
+     */
+    public <K, V> TestVersionedStore<K, V> versionedStore(final String name) {
+        final VersionedKeyValueStore<K, V> store = this.testDriver.getVersionedKeyValueStore(name);
+        return new TestVersionedStore<>(name, requireStore(name, "Versioned key-value", store));
+    }
+
+    /**
+     * <p>Start measuring the bytes allocated by the current thread while records are added to any input of this
+     * topology.</p>
+     * <p>The returned scope should be closed once the inputs to measure have been added.</p>
+     *
+     * @return {@link AllocationScope} measuring allocations until it is closed
+     * @throws UnsupportedOperationException if the JVM does not support measuring thread allocations
+     */
+    public AllocationScope measureAllocations() {
+        final AllocationScope scope = new AllocationScope(this.processingObservers);
+        this.processingObservers.add(scope);
+        return scope;
+    }
+
+    /**
+     * Benchmark and fuzz a key serde with round-trips. The serde is configured using properties of the test
+     * topology, like serdes of inputs and outputs. The {@code TestTopology} must be started.
+     *
+     * @param keySerde serde to test
+     * @param <T> type of keys
+     * @return {@link SerdeRoundTrip} for the configured serde
+     */
+    public <T> SerdeRoundTrip<T> keySerdeRoundTrip(final Serde<T> keySerde) {
+        return new SerdeRoundTrip<>(this.serdeCache.configureForKeys(keySerde));
+    }
+
+    /**
+     * Benchmark and fuzz a key serde with round-trips. The serde is configured using properties of the test
+     * topology, like serdes of inputs and outputs. The {@code TestTopology} must be started.
+     *
+     * @param keySerde serde to test
+     * @param <T> type of keys
+     * @return {@link SerdeRoundTrip} for the configured serde
+     */
+    public <T> SerdeRoundTrip<T> keySerdeRoundTrip(final Preconfigured<? extends Serde<T>> keySerde) {
+        return new SerdeRoundTrip<>(this.serdeCache.configureForKeys(keySerde));
+    }
+
+    /**
+     * Benchmark and fuzz a value serde with round-trips. The serde is configured using properties of the test
+     * topology, like serdes of inputs and outputs. The {@code TestTopology} must be started.
+     *
+     * @param valueSerde serde to test
+     * @param <T> type of values
+     * @return {@link SerdeRoundTrip} for the configured serde
+     */
+    public <T> SerdeRoundTrip<T> valueSerdeRoundTrip(final Serde<T> valueSerde) {
+        return new SerdeRoundTrip<>(this.serdeCache.configureForValues(valueSerde));
+    }
+
+    /**
+     * Benchmark and fuzz a value serde with round-trips. The serde is configured using properties of the test
+     * topology, like serdes of inputs and outputs. The {@code TestTopology} must be started.
+     *
+     * @param valueSerde serde to test
+     * @param <T> type of values
+     * @return {@link SerdeRoundTrip} for the configured serde
+     */
+    public <T> SerdeRoundTrip<T> valueSerdeRoundTrip(final Preconfigured<? extends Serde<T>> valueSerde) {
+        return new SerdeRoundTrip<>(this.serdeCache.configureForValues(valueSerde));
+    }
+
     /**
      * Stop the {@code TestTopology} and cleaning up all resources.
      * <p>
@@ -331,6 +614,13 @@ public class TestTopology<DefaultK, DefaultV> implements AutoCloseable {
         if (this.testDriver != null) {
             this.testDriver.close();
         }
+        if (this.serdeCache != null) {
+            this.serdeCache.clear();
+        }
+        if (this.inputTopicCache != null) {
+            this.inputTopicCache.clear();
+        }
+        this.defaultSerdeConfig = null;
         try (final Stream<Path> stateFiles = Files.walk(this.stateDirectory)) {
             stateFiles.sorted(Comparator.reverseOrder())
                     .map(Path::toFile)
@@ -349,6 +639,13 @@ public class TestTopology<DefaultK, DefaultV> implements AutoCloseable {
         return new Configurator(this.properties);
     }
 
+    private static <S> S requireStore(final String name, final String type, final S store) {
+        if (store == null) {
+            throw new NoSuchElementException(String.format("%s store '%s' not found", type, name));
+        }
+        return store;
+    }
+
     protected <K, V> TestTopology<K, V> with(
             final Function<? super Map<String, Object>, ? extends Topology> topologyFactory,
             final Map<String, Object> userProperties, final Serde<K> defaultKeySerde,
@@ -372,11 +669,30 @@ public class TestTopology<DefaultK, DefaultV> implements AutoCloseable {
                 : (Serde<DefaultV>) this.getStreamsConfig().defaultValueSerde();
     }
 
-    private SerdeConfig<DefaultK, DefaultV> createSerdeConfig() {
-        final Serde<DefaultK> keySerde = this.getDefaultKeySerde();
-        final Serde<DefaultV> valueSerde = this.getDefaultValueSerde();
-        final Configurator configurator = this.createConfigurator();
-        return SerdeConfig.create(keySerde, valueSerde, configurator);
+    /**
+     * Get the serdes of inputs and outputs that do not override them. The default serdes are instantiated once per
+     * run, so that all inputs and outputs share them.
+     */
+    private SerdeConfig<DefaultK, DefaultV> getDefaultSerdeConfig() {
+        if (this.defaultSerdeConfig == null) {
+            final Serde<DefaultK> keySerde = this.getDefaultKeySerde();
+            final Serde<DefaultV> valueSerde = this.getDefaultValueSerde();
+            this.defaultSerdeConfig = SerdeConfig.create(keySerde, valueSerde, this.serdeCache,
+                    this.findSerdeStatistics(), this.findBinarySchemas());
+        }
+        return this.defaultSerdeConfig;
+    }
+
+    private SerdeStatistics findSerdeStatistics() {
+        return (SerdeStatistics) this.userProperties.get(SerdeStatistics.STATISTICS_CONFIG);
+    }
+
+    private BinarySchemas findBinarySchemas() {
+        return (BinarySchemas) this.userProperties.get(BinarySchemas.SCHEMAS_CONFIG);
+    }
+
+    private PayloadStatistics findPayloadStatistics() {
+        return (PayloadStatistics) this.userProperties.get(PayloadStatistics.STATISTICS_CONFIG);
     }
 
     private Properties createProperties() {
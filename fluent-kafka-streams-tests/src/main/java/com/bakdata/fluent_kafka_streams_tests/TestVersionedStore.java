@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.time.Instant;
+import org.apache.kafka.streams.state.VersionedKeyValueStore;
+import org.apache.kafka.streams.state.VersionedRecord;
+
+/**
+ * Represents a versioned key-value store of the tested app via {@link TestTopology}.
+ *
+ * @param <K> the key type of the store
+ * @param <V> the value type of the store
+ * @see TestTopology#versionedStore(String)
+ */
+public final class TestVersionedStore<K, V> extends BaseStore {
+    private final VersionedKeyValueStore<K, V> store;
+
+    TestVersionedStore(final String name, final VersionedKeyValueStore<K, V> store) {
+        super(name);
+        this.store = store;
+    }
+
+    /**
+     * Look up the latest record of a key.
+     *
+     * @param key key to look up
+     * @return latest record of the key or {@code null} if the key is not present
+     */
+    public VersionedRecord<V> getRecord(final K key) {
+        return this.store.get(key);
+    }
+
+    /**
+     * Look up the record of a key that was valid at the given time.
+     *
+     * @param key key to look up
+     * @param asOf time at which the record was valid
+     * @return record of the key or {@code null} if the key was not present at that time
+     */
+    public VersionedRecord<V> getRecord(final K key, final Instant asOf) {
+        return this.store.get(key, asOf.toEpochMilli());
+    }
+
+    /**
+     * Look up the latest value of a key.
+     *
+     * @param key key to look up
+     * @return latest value of the key or {@code null} if the key is not present
+     */
+    public V get(final K key) {
+        return valueOf(this.getRecord(key));
+    }
+
+    /**
+     * Look up the value of a key that was valid at the given time.
+     *
+     * @param key key to look up
+     * @param asOf time at which the value was valid
+     * @return value of the key or {@code null} if the key was not present at that time
+     */
+    public V get(final K key, final Instant asOf) {
+        return valueOf(this.getRecord(key, asOf));
+    }
+
+    /**
+     * Expect the latest value of a key to be the given value.
+     *
+     * @param key key to look up
+     * @param expectedValue expected value
+     * @return the current {@code TestVersionedStore}
+     */
+    public TestVersionedStore<K, V> expectValue(final K key, final V expectedValue) {
+        this.expectEqual(expectedValue, this.get(key), String.format("key '%s'", key));
+        return this;
+    }
+
+    /**
+     * Expect the value of a key that was valid at the given time to be the given value.
+     *
+     * @param key key to look up
+     * @param asOf time at which the value was valid
+     * @param expectedValue expected value
+     * @return the current {@code TestVersionedStore}
+     */
+    public TestVersionedStore<K, V> expectValue(final K key, final Instant asOf, final V expectedValue) {
+        this.expectEqual(expectedValue, this.get(key, asOf), String.format("key '%s' as of %s", key, asOf));
+        return this;
+    }
+
+    private static <V> V valueOf(final VersionedRecord<V> versionedRecord) {
+        return versionedRecord == null ? null : versionedRecord.value();
+    }
+}
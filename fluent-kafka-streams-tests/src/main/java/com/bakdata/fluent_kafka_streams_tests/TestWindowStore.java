@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.time.Instant;
+import org.apache.kafka.streams.kstream.Windowed;
+import org.apache.kafka.streams.state.WindowStore;
+
+/**
+ * <p>Represents a window store of the tested app via {@link TestTopology}.</p>
+ * <p>Timestamped window stores can be accessed as well. In that case, only values without timestamps are
+ * returned.</p>
+ *
+ * @param <K> the key type of the store
+ * @param <V> the value type of the store
+ * @see TestTopology#windowStore(String)
+ */
+public final class TestWindowStore<K, V> extends BaseStore {
+    private final WindowStore<K, V> store;
+
+    TestWindowStore(final String name, final WindowStore<K, V> store) {
+        super(name);
+        this.store = store;
+    }
+
+    /**
+     * Look up the value of a key in the window starting at the given time.
+     *
+     * @param key key to look up
+     * @param windowStart start of the window
+     * @return value of the key or {@code null} if the key is not present in the window
+     */
+    public V get(final K key, final Instant windowStart) {
+        return this.store.fetch(key, windowStart.toEpochMilli());
+    }
+
+    /**
+     * Scan all windows of a key that start in the given time range, both inclusive.
+     *
+     * @param key key to scan
+     * @param from earliest window start
+     * @param to latest window start
+     * @return {@link StoreScan} over window start timestamps and values in time order
+     */
+    public StoreScan<Long, V> fetch(final K key, final Instant from, final Instant to) {
+        return new StoreScan<>(this.describe(String.format("windows of key '%s' between %s and %s", key, from, to)),
+                () -> this.store.fetch(key, from, to));
+    }
+
+    /**
+     * Scan all windows of all keys that start in the given time range, both inclusive.
+     *
+     * @param from earliest window start
+     * @param to latest window start
+     * @return {@link StoreScan} over windowed keys and values
+     */
+    public StoreScan<Windowed<K>, V> fetchAll(final Instant from, final Instant to) {
+        return new StoreScan<>(this.describe(String.format("windows between %s and %s", from, to)),
+                () -> this.store.fetchAll(from, to));
+    }
+
+    /**
+     * Scan all windows of the store.
+     *
+     * @return {@link StoreScan} over windowed keys and values
+     */
+    public StoreScan<Windowed<K>, V> all() {
+        return new StoreScan<>(this.describe("all windows"), this.store::all);
+    }
+
+    /**
+     * Expect the key to have the given value in the window starting at the given time.
+     *
+     * @param key key to look up
+     * @param windowStart start of the window
+     * @param expectedValue expected value
+     * @return the current {@code TestWindowStore}
+     */
+    public TestWindowStore<K, V> expectValue(final K key, final Instant windowStart, final V expectedValue) {
+        this.expectEqual(expectedValue, this.get(key, windowStart),
+                String.format("key '%s' in window starting at %s", key, windowStart));
+        return this;
+    }
+
+    /**
+     * Expect the store to contain the given number of windows. Windows are counted exactly by streaming over the
+     * store.
+     *
+     * @param expectedSize expected number of windows
+     * @return the current {@code TestWindowStore}
+     */
+    public TestWindowStore<K, V> expectSize(final long expectedSize) {
+        this.all().expectCount(expectedSize);
+        return this;
+    }
+}
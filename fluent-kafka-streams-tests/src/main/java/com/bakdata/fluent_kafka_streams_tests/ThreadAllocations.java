@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Access to the bytes allocated by threads, if supported by the JVM.
+ */
+@UtilityClass
+class ThreadAllocations {
+
+    /**
+     * Check whether the JVM supports measuring thread allocations.
+     *
+     * @return true if {@link #threadMXBean()} is supported
+     */
+    static boolean isSupported() {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        return threadMXBean instanceof com.sun.management.ThreadMXBean
+               && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported();
+    }
+
+    /**
+     * Get the thread bean with allocation measurement enabled.
+     *
+     * @return thread bean measuring allocations
+     * @throws UnsupportedOperationException if the JVM does not support measuring thread allocations
+     */
+    static com.sun.management.ThreadMXBean threadMXBean() {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Thread allocation measurement is not supported by this JVM");
+        }
+        final com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadMXBean.isThreadAllocatedMemoryEnabled()) {
+            threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        }
+        return threadMXBean;
+    }
+
+    /**
+     * Get the total bytes allocated by the current thread.
+     *
+     * @return allocated bytes
+     * @throws UnsupportedOperationException if the JVM does not support measuring thread allocations
+     */
+    static long currentThreadAllocatedBytes() {
+        return threadMXBean().getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
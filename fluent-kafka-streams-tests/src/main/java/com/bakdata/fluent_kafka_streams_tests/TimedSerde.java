@@ -0,0 +1,249 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.StreamsConfig;
+
+/**
+ * <p>Serde that measures the time spent and bytes processed by another serde and records them in
+ * {@link SerdeStatistics}.</p>
+ * <p>This serde replaces the default serdes of a topology if {@link TestTopology#withSerdeStatistics()} is used. In
+ * that case, it is instantiated by Kafka Streams and reads the original serde class from
+ * {@link #DELEGATE_KEY_SERDE_CONFIG} or {@link #DELEGATE_VALUE_SERDE_CONFIG}.</p>
+ *
+ * @param <T> type of data
+ */
+public final class TimedSerde<T> implements Serde<T> {
+    /**
+     * Property containing the original default key serde class.
+     */
+    public static final String DELEGATE_KEY_SERDE_CONFIG = "fluent.kafka.streams.tests.serde.delegate.key";
+    /**
+     * Property containing the original default value serde class.
+     */
+    public static final String DELEGATE_VALUE_SERDE_CONFIG = "fluent.kafka.streams.tests.serde.delegate.value";
+    private Serde<T> delegate;
+    private SerdeStatistics statistics;
+    private Serializer<T> serializer;
+    private Deserializer<T> deserializer;
+
+    /**
+     * Used by Kafka Streams to instantiate default serdes. The serde is initialized in
+     * {@link #configure(Map, boolean)}.
+     */
+    public TimedSerde() {
+        this(null, null);
+    }
+
+    TimedSerde(final Serde<T> delegate, final SerdeStatistics statistics) {
+        this.delegate = delegate;
+        this.statistics = statistics;
+    }
+
+    static <T> Serde<T> wrap(final Serde<T> serde, final SerdeStatistics statistics) {
+        if (serde == null || statistics == null || serde instanceof TimedSerde) {
+            return serde;
+        }
+        return new TimedSerde<>(serde, statistics);
+    }
+
+    /**
+     * Returns the measured serde if the given serde is a {@code TimedSerde}. Used when a serde becomes part of another
+     * serde that is measured as a whole, so that its time is not recorded twice.
+     */
+    static <T> Serde<T> unwrap(final Serde<T> serde) {
+        return serde instanceof TimedSerde ? ((TimedSerde<T>) serde).delegate : serde;
+    }
+
+    /**
+     * Replaces the default serdes in the given properties by {@code TimedSerde}.
+     *
+     * @param properties properties of a topology
+     */
+    static void instrumentDefaultSerdes(final Map<String, Object> properties) {
+        instrumentDefaultSerde(properties, StreamsConfig.DEFAULT_KEY_SERDE_CLASS_CONFIG, DELEGATE_KEY_SERDE_CONFIG);
+        instrumentDefaultSerde(properties, StreamsConfig.DEFAULT_VALUE_SERDE_CLASS_CONFIG,
+                DELEGATE_VALUE_SERDE_CONFIG);
+    }
+
+    private static void instrumentDefaultSerde(final Map<String, Object> properties, final String defaultSerdeConfig,
+            final String delegateConfig) {
+        final Object defaultSerde = properties.get(defaultSerdeConfig);
+        if (defaultSerde == null || TimedSerde.class.equals(defaultSerde)
+            || TimedSerde.class.getName().equals(defaultSerde)) {
+            return;
+        }
+        properties.put(delegateConfig, defaultSerde);
+        properties.put(defaultSerdeConfig, TimedSerde.class);
+    }
+
+    @Override
+    public void configure(final Map<String, ?> configs, final boolean isKey) {
+        if (this.delegate == null) {
+            final String delegateConfig = isKey ? DELEGATE_KEY_SERDE_CONFIG : DELEGATE_VALUE_SERDE_CONFIG;
+            this.delegate = createDelegate(configs.get(delegateConfig));
+        }
+        if (this.statistics == null) {
+            this.statistics = (SerdeStatistics) configs.get(SerdeStatistics.STATISTICS_CONFIG);
+        }
+        this.delegate.configure(configs, isKey);
+    }
+
+    @Override
+    public void close() {
+        this.delegate.close();
+    }
+
+    @Override
+    public Serializer<T> serializer() {
+        // created once because serializers are requested per record, e.g., by SerdeConfig
+        if (this.serializer == null) {
+            this.serializer = new TimedSerializer<>(this.delegate.serializer(), this.statistics);
+        }
+        return this.serializer;
+    }
+
+    @Override
+    public Deserializer<T> deserializer() {
+        if (this.deserializer == null) {
+            this.deserializer = new TimedDeserializer<>(this.delegate.deserializer(), this.statistics);
+        }
+        return this.deserializer;
+    }
+
+    private static <T> Serde<T> createDelegate(final Object delegateClass) {
+        if (delegateClass == null) {
+            throw new IllegalStateException("No serde to measure has been configured");
+        }
+        try {
+            final Class<?> serdeClass = delegateClass instanceof Class ? (Class<?>) delegateClass
+                    : Class.forName(delegateClass.toString(), true, Thread.currentThread().getContextClassLoader());
+            return (Serde<T>) serdeClass.getDeclaredConstructor().newInstance();
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot instantiate serde " + delegateClass, e);
+        }
+    }
+
+    private static final class TimedSerializer<T> implements Serializer<T> {
+        private final Serializer<T> delegate;
+        private final SerdeStatistics statistics;
+
+        private TimedSerializer(final Serializer<T> delegate, final SerdeStatistics statistics) {
+            this.delegate = delegate;
+            this.statistics = statistics;
+        }
+
+        @Override
+        public void configure(final Map<String, ?> configs, final boolean isKey) {
+            this.delegate.configure(configs, isKey);
+        }
+
+        @Override
+        public byte[] serialize(final String topic, final T data) {
+            final long start = System.nanoTime();
+            final byte[] bytes = this.delegate.serialize(topic, data);
+            this.record(topic, start, bytes);
+            return bytes;
+        }
+
+        @Override
+        public byte[] serialize(final String topic, final Headers headers, final T data) {
+            final long start = System.nanoTime();
+            final byte[] bytes = this.delegate.serialize(topic, headers, data);
+            this.record(topic, start, bytes);
+            return bytes;
+        }
+
+        @Override
+        public void close() {
+            this.delegate.close();
+        }
+
+        private void record(final String topic, final long start, final byte[] bytes) {
+            if (this.statistics != null) {
+                this.statistics.recordSerialization(topic, System.nanoTime() - start, bytes == null ? 0 : bytes.length);
+            }
+        }
+    }
+
+    private static final class TimedDeserializer<T> implements Deserializer<T> {
+        private final Deserializer<T> delegate;
+        private final SerdeStatistics statistics;
+
+        private TimedDeserializer(final Deserializer<T> delegate, final SerdeStatistics statistics) {
+            this.delegate = delegate;
+            this.statistics = statistics;
+        }
+
+        @Override
+        public void configure(final Map<String, ?> configs, final boolean isKey) {
+            this.delegate.configure(configs, isKey);
+        }
+
+        @Override
+        public T deserialize(final String topic, final byte[] data) {
+            final long start = System.nanoTime();
+            final T value = this.delegate.deserialize(topic, data);
+            this.record(topic, start, data);
+            return value;
+        }
+
+        @Override
+        public T deserialize(final String topic, final Headers headers, final byte[] data) {
+            final long start = System.nanoTime();
+            final T value = this.delegate.deserialize(topic, headers, data);
+            this.record(topic, start, data);
+            return value;
+        }
+
+        @Override
+        public T deserialize(final String topic, final Headers headers, final ByteBuffer data) {
+            final long start = System.nanoTime();
+            final int bytes = data == null ? 0 : data.remaining();
+            final T value = this.delegate.deserialize(topic, headers, data);
+            if (this.statistics != null) {
+                this.statistics.recordDeserialization(topic, System.nanoTime() - start, bytes);
+            }
+            return value;
+        }
+
+        @Override
+        public void close() {
+            this.delegate.close();
+        }
+
+        private void record(final String topic, final long start, final byte[] data) {
+            if (this.statistics != null) {
+                this.statistics.recordDeserialization(topic, System.nanoTime() - start, data == null ? 0 : data.length);
+            }
+        }
+    }
+}
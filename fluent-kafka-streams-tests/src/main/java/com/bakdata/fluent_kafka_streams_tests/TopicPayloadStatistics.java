@@ -0,0 +1,254 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.record.CompressionType;
+
+/**
+ * Serialized size, header size and estimated compressed size of the records of a single output topic.
+ *
+ * @see PayloadStatistics
+ */
+@Getter
+public final class TopicPayloadStatistics {
+    private final String topic;
+    /**
+     * Sizes of serialized keys and values per record.
+     */
+    private final Histogram recordSizes = new Histogram();
+    @Getter(AccessLevel.NONE)
+    private final Map<CompressionType, CompressionEstimate> compressionEstimates =
+            new EnumMap<>(CompressionType.class);
+    @Getter(AccessLevel.NONE)
+    private final Map<String, HeaderKeyStatistics> headerKeys = new HashMap<>();
+    private long recordCount;
+    private long keyBytes;
+    private long valueBytes;
+    /**
+     * Encoded size of header keys and values in the Kafka record batch format. Headers are not included in
+     * {@link #getTotalBytes()}.
+     */
+    private long headerBytes;
+
+    TopicPayloadStatistics(final String topic, final int batchSize) {
+        this.topic = topic;
+        for (final CompressionType compressionType : CompressionType.values()) {
+            this.compressionEstimates.put(compressionType, new CompressionEstimate(compressionType, batchSize));
+        }
+    }
+
+    /**
+     * Get the total size of serialized keys and values.
+     *
+     * @return serialized bytes
+     */
+    public long getTotalBytes() {
+        return this.keyBytes + this.valueBytes;
+    }
+
+    /**
+     * Get the average size of serialized keys and values of a record.
+     *
+     * @return serialized bytes per record, {@code NaN} if no records have been read
+     */
+    public double getBytesPerRecord() {
+        return (double) this.getTotalBytes() / this.recordCount;
+    }
+
+    /**
+     * Get the average encoded size of the headers of a record.
+     *
+     * @return header bytes per record, {@code NaN} if no records have been read
+     */
+    public double getHeaderBytesPerRecord() {
+        return (double) this.headerBytes / this.recordCount;
+    }
+
+    /**
+     * Get the encoded size of headers per header key, e.g., to find the headers that contribute most to the header
+     * overhead.
+     *
+     * @return header bytes by header key, sorted by key
+     */
+    public Map<String, Long> getHeaderBytesByKey() {
+        final Map<String, Long> headerBytesByKey = new TreeMap<>();
+        this.headerKeys.forEach((key, statistics) -> headerBytesByKey.put(key, statistics.bytes));
+        return Collections.unmodifiableMap(headerBytesByKey);
+    }
+
+    /**
+     * Get the estimated size of the records if produced with the given compression codec.
+     * {@link CompressionType#NONE} estimates the size of uncompressed producer batches. The open batch is closed, so
+     * that the estimate includes all records read so far.
+     *
+     * @param compressionType compression codec
+     * @return estimate for the codec
+     * @throws UnsupportedOperationException if the codec is not available in this JVM
+     */
+    public CompressionEstimate getCompressionEstimate(final CompressionType compressionType) {
+        final CompressionEstimate estimate = this.compressionEstimates.get(compressionType);
+        estimate.flush();
+        if (!estimate.isAvailable()) {
+            throw new UnsupportedOperationException(estimate.toString());
+        }
+        return estimate;
+    }
+
+    /**
+     * Get the estimates of all compression codecs available in this JVM.
+     *
+     * @return estimates by compression codec
+     */
+    public Map<CompressionType, CompressionEstimate> getCompressionEstimates() {
+        this.flush();
+        final Map<CompressionType, CompressionEstimate> available = new EnumMap<>(CompressionType.class);
+        this.compressionEstimates.forEach((compressionType, estimate) -> {
+            if (estimate.isAvailable()) {
+                available.put(compressionType, estimate);
+            }
+        });
+        return Collections.unmodifiableMap(available);
+    }
+
+    /**
+     * Expect serialized keys and values to be at most the given number of bytes per record on average.
+     *
+     * @param maxBytesPerRecord maximum serialized bytes per record
+     * @return this statistics, so it can be chained.
+     */
+    public TopicPayloadStatistics expectBytesPerRecord(final long maxBytesPerRecord) {
+        this.expectRecords();
+        final double bytesPerRecord = this.getBytesPerRecord();
+        if (bytesPerRecord > maxBytesPerRecord) {
+            throw new AssertionError(String.format(
+                    "Output %s has %.1f bytes per record but budget is %d bytes per record: %s", this.topic,
+                    bytesPerRecord, maxBytesPerRecord, this));
+        }
+        return this;
+    }
+
+    /**
+     * Expect headers to be at most the given number of bytes per record on average.
+     *
+     * @param maxBytesPerRecord maximum encoded header bytes per record
+     * @return this statistics, so it can be chained.
+     */
+    public TopicPayloadStatistics expectHeaderBytesPerRecord(final long maxBytesPerRecord) {
+        this.expectRecords();
+        final double bytesPerRecord = this.getHeaderBytesPerRecord();
+        if (bytesPerRecord > maxBytesPerRecord) {
+            throw new AssertionError(String.format(
+                    "Output %s has %.1f header bytes per record but budget is %d bytes per record: %s", this.topic,
+                    bytesPerRecord, maxBytesPerRecord, this.getHeaderBytesByKey()));
+        }
+        return this;
+    }
+
+    /**
+     * Expect records to be at most the given number of bytes per record on average if produced with the given
+     * compression codec.
+     *
+     * @param compressionType compression codec
+     * @param maxBytesPerRecord maximum compressed bytes per record
+     * @return this statistics, so it can be chained.
+     * @throws UnsupportedOperationException if the codec is not available in this JVM
+     */
+    public TopicPayloadStatistics expectCompressedBytesPerRecord(final CompressionType compressionType,
+            final long maxBytesPerRecord) {
+        this.expectRecords();
+        final CompressionEstimate estimate = this.getCompressionEstimate(compressionType);
+        final double bytesPerRecord = estimate.getCompressedBytesPerRecord();
+        if (bytesPerRecord > maxBytesPerRecord) {
+            throw new AssertionError(String.format(
+                    "Output %s has %.1f bytes per record with %s compression but budget is %d bytes per record: %s",
+                    this.topic, bytesPerRecord, compressionType, maxBytesPerRecord, estimate));
+        }
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        this.flush();
+        return String.format("TopicPayloadStatistics{topic=%s, records=%d, keyBytes=%d, valueBytes=%d, "
+                             + "headerBytes=%d, recordSizes=%s, compression=%s}", this.topic, this.recordCount,
+                this.keyBytes, this.valueBytes, this.headerBytes, this.recordSizes, this.compressionEstimates.values());
+    }
+
+    void add(final ProducerRecord<byte[], byte[]> producerRecord) {
+        final int keySize = producerRecord.key() == null ? 0 : producerRecord.key().length;
+        final int valueSize = producerRecord.value() == null ? 0 : producerRecord.value().length;
+        this.recordCount++;
+        this.keyBytes += keySize;
+        this.valueBytes += valueSize;
+        this.recordSizes.record(keySize + valueSize);
+        for (final Header header : producerRecord.headers()) {
+            this.addHeader(header);
+        }
+        for (final CompressionEstimate estimate : this.compressionEstimates.values()) {
+            estimate.append(producerRecord);
+        }
+    }
+
+    private void flush() {
+        for (final CompressionEstimate estimate : this.compressionEstimates.values()) {
+            estimate.flush();
+        }
+    }
+
+    private void expectRecords() {
+        // statistics only include records that have been read, so an empty budget check would pass vacuously
+        if (this.recordCount == 0L) {
+            throw new AssertionError("No records have been read from output " + this.topic);
+        }
+    }
+
+    private void addHeader(final Header header) {
+        final HeaderKeyStatistics statistics = this.headerKeys.computeIfAbsent(header.key(), HeaderKeyStatistics::new);
+        final int headerSize = statistics.keySize + HeaderSizes.sizeOfValue(header.value());
+        statistics.bytes += headerSize;
+        this.headerBytes += headerSize;
+    }
+
+    private static final class HeaderKeyStatistics {
+        /**
+         * Encoded size of the key, computed once per key because the same keys are attached to most records.
+         */
+        private final int keySize;
+        private long bytes;
+
+        private HeaderKeyStatistics(final String key) {
+            this.keySize = HeaderSizes.sizeOfKey(key);
+        }
+    }
+}
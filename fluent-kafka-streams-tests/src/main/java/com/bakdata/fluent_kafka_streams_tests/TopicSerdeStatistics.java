@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Time spent and bytes processed by the serdes of a single topic.
+ *
+ * @see SerdeStatistics
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PACKAGE)
+public final class TopicSerdeStatistics {
+    private long serializationCount;
+    private long serializationNanos;
+    private long serializedBytes;
+    private long deserializationCount;
+    private long deserializationNanos;
+    private long deserializedBytes;
+
+    @Override
+    public String toString() {
+        return String.format("TopicSerdeStatistics{serialized %d records with %d bytes in %.3fms, "
+                             + "deserialized %d records with %d bytes in %.3fms}", this.serializationCount,
+                this.serializedBytes, this.serializationNanos / 1.0e6, this.deserializationCount,
+                this.deserializedBytes, this.deserializationNanos / 1.0e6);
+    }
+
+    synchronized void recordSerialization(final long nanos, final int bytes) {
+        this.serializationCount++;
+        this.serializationNanos += nanos;
+        this.serializedBytes += bytes;
+    }
+
+    synchronized void recordDeserialization(final long nanos, final int bytes) {
+        this.deserializationCount++;
+        this.deserializationNanos += nanos;
+        this.deserializedBytes += bytes;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import lombok.NonNull;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.streams.kstream.Windowed;
+
+/**
+ * <p>Represents an output with {@link Windowed} keys, indexed by window and key.</p>
+ * <p>Only the final result of each window and key is kept, i.e., the last record produced for it. A tombstone removes
+ * the window and key from the index. Lookups by window start and key take constant time.</p>
+ * <p>Records are read from the underlying {@link TestOutput} whenever the index is accessed, so records produced
+ * after this output has been created are reflected as well.</p>
+ *
+ * @param <K> the key type of the windowed keys
+ * @param <V> the value type of the output
+ * @see TestOutput#asWindowed(java.time.Duration)
+ * @see TestOutput#asSessionWindowed()
+ */
+public class WindowedOutput<K, V> implements Iterable<ProducerRecord<Windowed<K>, V>> {
+    private final TestOutput<Windowed<K>, V> output;
+    private final Map<Long, Map<K, ProducerRecord<Windowed<K>, V>>> windows = new HashMap<>();
+
+    WindowedOutput(final TestOutput<Windowed<K>, V> output) {
+        this.output = output;
+    }
+
+    /**
+     * Get the final record of a key in the window starting at {@code windowStart}.
+     *
+     * @param windowStart start of the window in milliseconds
+     * @param key key of the record
+     * @return final record for the window and key. {@code null} if no such record is present.
+     */
+    public ProducerRecord<Windowed<K>, V> getFinalRecord(final long windowStart, final K key) {
+        return this.getWindow(windowStart).get(key);
+    }
+
+    /**
+     * Get the final value of a key in the window starting at {@code windowStart}.
+     *
+     * @param windowStart start of the window in milliseconds
+     * @param key key of the record
+     * @return final value for the window and key. {@code null} if no such record is present.
+     */
+    public V getFinalValue(final long windowStart, final K key) {
+        final ProducerRecord<Windowed<K>, V> producerRecord = this.getFinalRecord(windowStart, key);
+        return producerRecord == null ? null : producerRecord.value();
+    }
+
+    /**
+     * Get the final records of all keys in the window starting at {@code windowStart}, in the order in which the keys
+     * appeared first.
+     *
+     * @param windowStart start of the window in milliseconds
+     * @return unmodifiable map of keys to final records. Empty if no such window is present.
+     */
+    public Map<K, ProducerRecord<Windowed<K>, V>> getWindow(final long windowStart) {
+        this.update();
+        final Map<K, ProducerRecord<Windowed<K>, V>> window = this.windows.get(windowStart);
+        return window == null ? Collections.emptyMap() : Collections.unmodifiableMap(window);
+    }
+
+    /**
+     * Get the starts of all windows containing at least one final record.
+     *
+     * @return sorted window starts in milliseconds
+     */
+    public NavigableSet<Long> getWindowStarts() {
+        this.update();
+        return Collections.unmodifiableNavigableSet(new TreeSet<>(this.windows.keySet()));
+    }
+
+    /**
+     * Creates an iterator of the final records of all windows, ordered by window start.
+     */
+    @Override
+    public @NonNull Iterator<ProducerRecord<Windowed<K>, V>> iterator() {
+        return this.toList().iterator();
+    }
+
+    /**
+     * Convert the final records of all windows to a {@link java.util.List}, ordered by window start.
+     *
+     * @return A {@link java.util.List} representing the final records
+     */
+    public List<ProducerRecord<Windowed<K>, V>> toList() {
+        final List<ProducerRecord<Windowed<K>, V>> list = new ArrayList<>();
+        for (final Long windowStart : this.getWindowStarts()) {
+            list.addAll(this.windows.get(windowStart).values());
+        }
+        return list;
+    }
+
+    private void update() {
+        ProducerRecord<Windowed<K>, V> producerRecord = this.output.readOneRecord();
+        while (producerRecord != null) {
+            this.index(producerRecord);
+            producerRecord = this.output.readOneRecord();
+        }
+    }
+
+    private void index(final ProducerRecord<Windowed<K>, V> producerRecord) {
+        final Windowed<K> windowedKey = producerRecord.key();
+        final long windowStart = windowedKey.window().start();
+        if (producerRecord.value() == null) {
+            final Map<K, ProducerRecord<Windowed<K>, V>> window = this.windows.get(windowStart);
+            if (window != null) {
+                window.remove(windowedKey.key());
+                if (window.isEmpty()) {
+                    this.windows.remove(windowStart);
+                }
+            }
+            return;
+        }
+        this.windows.computeIfAbsent(windowStart, start -> new LinkedHashMap<>())
+                .put(windowedKey.key(), producerRecord);
+    }
+}
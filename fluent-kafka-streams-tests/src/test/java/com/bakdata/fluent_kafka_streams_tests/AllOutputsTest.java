@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.HeartbeatApp;
+import com.bakdata.fluent_kafka_streams_tests.test_applications.PartialDlqApp;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AllOutputsTest {
+    private final TestTopology<String, String> testTopology =
+            new TestTopology<>(PartialDlqApp::getTopology, PartialDlqApp.getKafkaProperties());
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldReadAllOutputsInProductionOrder() {
+        this.testTopology.input()
+                .add("key1", "value1")
+                .add("key2", "error2")
+                .add("key3", "value3")
+                .add("key4", "error4");
+
+        final List<SequencedRecord<String, String>> records = this.testTopology.allOutputs().toList();
+        assertThat(records)
+                .extracting(SequencedRecord::getTopic)
+                .containsExactly(PartialDlqApp.OUTPUT_TOPIC, PartialDlqApp.ERROR_TOPIC, PartialDlqApp.OUTPUT_TOPIC,
+                        PartialDlqApp.ERROR_TOPIC);
+        assertThat(records)
+                .extracting(sequencedRecord -> sequencedRecord.getRecord().key())
+                .containsExactly("key1", "key2", "key3", "key4");
+        assertThat(records)
+                .extracting(SequencedRecord::getSequenceNumber)
+                .containsExactly(0L, 1L, 2L, 3L);
+        assertThat(records)
+                .extracting(SequencedRecord::getInputSequenceNumber)
+                .containsExactly(0L, 1L, 2L, 3L);
+    }
+
+    @Test
+    void shouldSkipRecordsReadByOtherOutputs() {
+        this.testTopology.input()
+                .add("key1", "value1")
+                .add("key2", "error2")
+                .add("key3", "value3");
+
+        this.testTopology.streamOutput(PartialDlqApp.OUTPUT_TOPIC)
+                .expectNextRecord().hasKey("key1");
+
+        assertThat(this.testTopology.allOutputs())
+                .extracting(SequencedRecord::getInputSequenceNumber)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void shouldReadRecordsProducedAfterIteratorCreation() {
+        final MultiplexedOutput<String, String> output = this.testTopology.allOutputs();
+        assertThat(output.readOneRecord()).isNull();
+
+        this.testTopology.input().add("key1", "error1");
+        final SequencedRecord<String, String> sequencedRecord = output.readOneRecord();
+        assertThat(sequencedRecord.getTopic()).isEqualTo(PartialDlqApp.ERROR_TOPIC);
+        assertThat(sequencedRecord.getRecord().value()).isEqualTo("error1");
+        assertThat(output.readOneRecord()).isNull();
+    }
+
+    @Test
+    void shouldAttributeRecordsProducedBetweenInputsToUnknownInput() {
+        try (final TestTopology<String, String> heartbeatTopology =
+                new TestTopology<>(HeartbeatApp::getTopology, HeartbeatApp.getKafkaProperties())) {
+            heartbeatTopology.start();
+            heartbeatTopology.input().add("key1", "value1");
+            heartbeatTopology.getTestDriver().advanceWallClockTime(HeartbeatApp.HEARTBEAT_INTERVAL);
+            heartbeatTopology.input().add("key2", "value2");
+
+            final List<SequencedRecord<String, String>> records = heartbeatTopology.allOutputs().toList();
+            assertThat(records)
+                    .extracting(sequencedRecord -> sequencedRecord.getRecord().key())
+                    .containsExactly("key1", HeartbeatApp.HEARTBEAT_KEY, "key2");
+            assertThat(records)
+                    .extracting(SequencedRecord::getInputSequenceNumber)
+                    .containsExactly(0L, OutputSequencer.UNKNOWN_INPUT, 1L);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.WordCount;
+import java.util.stream.IntStream;
+import org.apache.kafka.common.serialization.Serdes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AllSatisfyTest {
+    private final WordCount app = new WordCount();
+
+    private final TestTopology<Object, String> testTopology = new TestTopology<>(this.app::getTopology,
+            WordCount.getKafkaProperties());
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldSatisfyPredicate() {
+        final TestInput<Object, String> input = this.testTopology.input();
+        IntStream.range(0, 5_000).forEach(i -> input.add("word" + i));
+
+        this.testTopology.streamOutput().withSerde(Serdes.String(), Serdes.Long())
+                .allSatisfy(producerRecord -> producerRecord.value() == 1L)
+                .expectNoMoreRecord();
+    }
+
+    @Test
+    void shouldReportFailuresWithIndex() {
+        final TestInput<Object, String> input = this.testTopology.input();
+        IntStream.range(0, 5_000).forEach(i -> input.add("word" + i % 2_500));
+
+        final TestOutput<String, Long> output = this.testTopology.streamOutput()
+                .withSerde(Serdes.String(), Serdes.Long());
+        assertThatThrownBy(() -> output.allSatisfy(producerRecord -> producerRecord.value() == 1L))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("2500 records not satisfying the predicate")
+                .hasMessageContaining("(showing 10 of 2500)")
+                .hasMessageContaining("#2500 {key='word0', value='2'}")
+                .hasMessageNotContaining("#2499 ");
+    }
+
+    @Test
+    void shouldReportExceptions() {
+        this.testTopology.input()
+                .add("bla");
+
+        final TestOutput<String, Long> output = this.testTopology.streamOutput()
+                .withSerde(Serdes.String(), Serdes.Long());
+        assertThatThrownBy(() -> output.allSatisfy(producerRecord -> {
+            throw new IllegalStateException("boom");
+        }))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("#0 {key='bla', value='1'} threw java.lang.IllegalStateException: boom");
+    }
+}
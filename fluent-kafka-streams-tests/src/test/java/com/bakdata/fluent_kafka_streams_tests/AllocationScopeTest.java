@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.WordCount;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AllocationScopeTest {
+    private final WordCount app = new WordCount();
+
+    private final TestTopology<Object, String> testTopology = new TestTopology<>(this.app::getTopology,
+            WordCount.getKafkaProperties());
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldMeasureAllocationsPerRecord() {
+        final TestInput<Object, String> input = this.testTopology.input();
+        try (final AllocationScope scope = this.testTopology.measureAllocations()) {
+            input.add("bla")
+                    .add("blub")
+                    .add("bla");
+
+            assertThat(scope.getRecordCount()).isEqualTo(3L);
+            assertThat(scope.getAllocatedBytes()).isPositive();
+            scope.expectAllocatedBytesPerRecord(Long.MAX_VALUE);
+        }
+    }
+
+    @Test
+    void shouldStopMeasuringWhenClosed() {
+        final TestInput<Object, String> input = this.testTopology.input();
+        final AllocationScope scope = this.testTopology.measureAllocations();
+        input.add("bla");
+        scope.close();
+        final long allocatedBytes = scope.getAllocatedBytes();
+        input.add("blub");
+
+        assertThat(scope.getRecordCount()).isEqualTo(1L);
+        assertThat(scope.getAllocatedBytes()).isEqualTo(allocatedBytes);
+    }
+
+    @Test
+    void shouldNotCountAllocationsBetweenRecords() {
+        final TestInput<Object, String> input = this.testTopology.input();
+        try (final AllocationScope scope = this.testTopology.measureAllocations()) {
+            input.add("bla");
+            final byte[] garbage = new byte[16 * 1024 * 1024];
+            input.add("blub");
+
+            assertThat(scope.getRecordCount()).isEqualTo(2L);
+            assertThat(scope.getAllocatedBytes()).isPositive().isLessThan(garbage.length);
+        }
+    }
+
+    @Test
+    void shouldFailIfBudgetIsExceeded() {
+        final TestInput<Object, String> input = this.testTopology.input();
+        try (final AllocationScope scope = this.testTopology.measureAllocations()) {
+            input.add("bla");
+
+            assertThatThrownBy(() -> scope.expectAllocatedBytesPerRecord(0L))
+                    .isInstanceOf(AssertionError.class)
+                    .hasMessageContaining("bytes per record");
+            assertThatThrownBy(() -> scope.expectAllocatedBytes(0L))
+                    .isInstanceOf(AssertionError.class)
+                    .hasMessageContaining("for 1 records");
+        }
+    }
+}
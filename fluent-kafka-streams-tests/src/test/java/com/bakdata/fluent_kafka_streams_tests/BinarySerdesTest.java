@@ -0,0 +1,192 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.CountInhabitantsWithAvro;
+import com.bakdata.fluent_kafka_streams_tests.test_applications.CountInhabitantsWithProto;
+import com.bakdata.fluent_kafka_streams_tests.test_applications.Mirror;
+import com.bakdata.fluent_kafka_streams_tests.test_applications.WordCount;
+import com.bakdata.fluent_kafka_streams_tests.test_types.City;
+import com.bakdata.fluent_kafka_streams_tests.test_types.Person;
+import com.bakdata.fluent_kafka_streams_tests.test_types.proto.PersonOuterClass;
+import io.confluent.kafka.streams.serdes.protobuf.KafkaProtobufSerde;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BinarySerdesTest {
+
+    private final TestTopology<String, Person> testTopology =
+            new TestTopology<String, Person>(CountInhabitantsWithAvro::getTopology,
+                    CountInhabitantsWithAvro.getKafkaProperties())
+                    .withBinarySerdes(new BinarySchemas().registerAvro(Person.getClassSchema()));
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldAggregateWithBinaryAvroSerdes() {
+        this.testTopology.input()
+                .add(new Person("Huey", "City1"))
+                .add(new Person("Dewey", "City2"))
+                .add(new Person("Louie", "City1"));
+
+        this.testTopology.tableOutput().withValueType(City.class)
+                .expectNextRecord().hasKey("City1").hasValue(new City("City1", 2))
+                .expectNextRecord().hasKey("City2").hasValue(new City("City2", 1))
+                .expectNoMoreRecord();
+    }
+
+    @Test
+    void shouldWriteSingleObjectEncoding() {
+        this.testTopology.input()
+                .add(new Person("Huey", "City1"));
+
+        final TestOutput<String, City> output = this.testTopology.tableOutput().withValueType(City.class);
+        final ProducerRecord<ByteBuffer, ByteBuffer> serializedRecord = output.readOneSerializedRecord();
+        final ByteBuffer value = serializedRecord.value();
+        assertThat(value.get(value.position())).isEqualTo((byte) 0xC3);
+        assertThat(value.get(value.position() + 1)).isEqualTo((byte) 0x01);
+        assertThat(output.deserialize(serializedRecord).value()).isEqualTo(new City("City1", 1));
+    }
+
+    @Test
+    void shouldReadSerializedRecordsWithRegisteredSchema() throws IOException {
+        this.testTopology.input()
+                .addSerialized(null, Person.getEncoder().encode(new Person("Huey", "City1")));
+
+        this.testTopology.tableOutput().withValueType(City.class)
+                .expectNextRecord().hasKey("City1").hasValue(new City("City1", 1))
+                .expectNoMoreRecord();
+    }
+
+    @Test
+    void shouldReplaceProtobufSerdes() {
+        final Map<String, Object> properties = Mirror.getKafkaProperties();
+        properties.put(StreamsConfig.DEFAULT_VALUE_SERDE_CLASS_CONFIG, KafkaProtobufSerde.class);
+        final PersonOuterClass.Person person = PersonOuterClass.Person.newBuilder()
+                .setName("Huey")
+                .setCity("City1")
+                .build();
+        try (final TestTopology<String, PersonOuterClass.Person> protoTopology =
+                new TestTopology<String, PersonOuterClass.Person>(new Mirror()::getTopology, properties)
+                        .withBinarySerdes()) {
+            protoTopology.start();
+            protoTopology.input().withValueSerde(CountInhabitantsWithProto.newPersonSerde())
+                    .add("Huey", person);
+
+            final TestOutput<String, PersonOuterClass.Person> output = protoTopology.streamOutput()
+                    .withValueSerde(CountInhabitantsWithProto.newPersonSerde());
+            final ProducerRecord<ByteBuffer, ByteBuffer> serializedRecord = output.readOneSerializedRecord();
+            assertThat(serializedRecord.value().remaining()).isEqualTo(Long.BYTES + person.getSerializedSize());
+            assertThat(output.deserialize(serializedRecord).value()).isEqualTo(person);
+        }
+    }
+
+    @Test
+    void shouldNotRequireAvroOrProtobufOnClasspath() throws ReflectiveOperationException {
+        final ClassLoader classLoader = new WithoutAvroClassLoader(this.getClass().getClassLoader());
+        assertThatThrownBy(() -> classLoader.loadClass("org.apache.avro.Schema"))
+                .isInstanceOf(ClassNotFoundException.class);
+
+        final Runnable run = (Runnable) classLoader.loadClass(WordCountRun.class.getName())
+                .getDeclaredConstructor()
+                .newInstance();
+        run.run();
+    }
+
+    /**
+     * Runs {@link WordCount} with serde statistics. Loaded by {@link WithoutAvroClassLoader}.
+     */
+    public static final class WordCountRun implements Runnable {
+        @Override
+        public void run() {
+            final WordCount app = new WordCount();
+            try (final TestTopology<Object, String> topology = new TestTopology<Object, String>(app::getTopology,
+                    WordCount.getKafkaProperties()).withSerdeStatistics()) {
+                topology.start();
+                topology.input().add("bla");
+                topology.streamOutput().withValueSerde(Serdes.Long())
+                        .expectNextRecord().hasKey("bla").hasValue(1L)
+                        .expectNoMoreRecord();
+            }
+        }
+    }
+
+    /**
+     * Defines the classes of this library in isolation and hides Avro and Protobuf, as if they were not on the
+     * classpath.
+     */
+    private static final class WithoutAvroClassLoader extends ClassLoader {
+        private static final String PACKAGE_PREFIX = "com.bakdata.fluent_kafka_streams_tests.";
+
+        private WithoutAvroClassLoader(final ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+            if (name.startsWith("org.apache.avro.") || name.startsWith("com.google.protobuf.")) {
+                throw new ClassNotFoundException(name);
+            }
+            if (!name.startsWith(PACKAGE_PREFIX)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (this.getClassLoadingLock(name)) {
+                final Class<?> loaded = this.findLoadedClass(name);
+                return loaded == null ? this.define(name) : loaded;
+            }
+        }
+
+        private Class<?> define(final String name) throws ClassNotFoundException {
+            try (final InputStream input = this.getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                if (input == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                final byte[] bytes = input.readAllBytes();
+                return this.defineClass(name, bytes, 0, bytes.length);
+            } catch (final IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+    }
+}
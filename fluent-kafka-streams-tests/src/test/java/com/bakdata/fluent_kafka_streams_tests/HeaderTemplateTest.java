@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.Mirror;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HeaderTemplateTest {
+    private static final HeaderTemplate TRACING = HeaderTemplate.empty().with("trace", "abc");
+    private final Mirror app = new Mirror();
+
+    private final TestTopology<String, String> testTopology =
+            new TestTopology<String, String>(this.app::getTopology, Mirror.getKafkaProperties())
+                    .withPayloadStatistics();
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldAttachHeaders() {
+        this.testTopology.input()
+                .attachHeaders(TRACING)
+                .add("key1", "value1")
+                .add("key2", "value2");
+
+        final List<ProducerRecord<String, String>> records = this.testTopology.streamOutput().toList();
+        assertThat(records)
+                .hasSize(2)
+                .allSatisfy(producerRecord -> assertThat(producerRecord.headers().toArray())
+                        .hasSize(1)
+                        .allSatisfy(header -> {
+                            assertThat(header.key()).isEqualTo("trace");
+                            assertThat(header.value()).isEqualTo("abc".getBytes(StandardCharsets.UTF_8));
+                        }));
+    }
+
+    @Test
+    void shouldPreferExplicitHeaders() {
+        this.testTopology.input()
+                .attachHeaders(TRACING)
+                .add("key1", "value1", new RecordHeaders().add("other", new byte[]{1}))
+                .attachHeaders(null)
+                .add("key2", "value2");
+
+        this.testTopology.streamOutput()
+                .expectNextRecord().hasKey("key1")
+                .expectNextRecord().hasKey("key2")
+                .expectNoMoreRecord();
+        final TopicPayloadStatistics statistics = this.testTopology.getPayloadStatistics()
+                .getStatistics(this.app.getOutputTopic());
+        assertThat(statistics.getHeaderBytesByKey()).containsExactly(Map.entry("other", 8L));
+    }
+
+    @Test
+    void shouldBeImmutable() {
+        final byte[] value = {1, 2};
+        final HeaderTemplate template = HeaderTemplate.of(new RecordHeaders().add("header", value));
+        value[0] = 3;
+
+        final Headers headers = template.getHeaders();
+        assertThat(headers.lastHeader("header").value()).isEqualTo(new byte[]{1, 2});
+        assertThatThrownBy(() -> headers.add("other", null)).isInstanceOf(IllegalStateException.class);
+        assertThat(template.with("other", (byte[]) null).getHeaders().toArray()).hasSize(2);
+        assertThat(template.getHeaders().toArray()).hasSize(1);
+    }
+
+    @Test
+    void shouldComputeSerializedSize() {
+        assertThat(HeaderTemplate.empty().getSerializedSize()).isZero();
+        // varint length and 5 bytes for the key, varint length and 3 bytes for the value
+        assertThat(TRACING.getSerializedSize()).isEqualTo(10);
+        // null values are encoded as varint -1
+        assertThat(TRACING.with("flag", (byte[]) null).getSerializedSize()).isEqualTo(16);
+    }
+
+    @Test
+    void shouldFailHeaderBudgetWithoutRecords() {
+        this.testTopology.input()
+                .attachHeaders(TRACING)
+                .add("key1", "value1");
+
+        final TopicPayloadStatistics statistics = this.testTopology.getPayloadStatistics()
+                .getStatistics(this.app.getOutputTopic());
+        assertThatThrownBy(() -> statistics.expectHeaderBytesPerRecord(100L))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("No records have been read from output output");
+    }
+
+    @Test
+    void shouldAccountHeaderBytes() {
+        this.testTopology.input()
+                .attachHeaders(TRACING.with("span", "0123456789"))
+                .add("key1", "value1")
+                .add("key2", "value2");
+
+        assertThat(this.testTopology.streamOutput().toList()).hasSize(2);
+
+        final TopicPayloadStatistics statistics = this.testTopology.getPayloadStatistics()
+                .getStatistics(this.app.getOutputTopic());
+        assertThat(statistics.getHeaderBytes()).isEqualTo(52L);
+        assertThat(statistics.getHeaderBytesPerRecord()).isEqualTo(26.0);
+        assertThat(statistics.getHeaderBytesByKey())
+                .containsExactly(Map.entry("span", 32L), Map.entry("trace", 20L));
+        assertThat(statistics.getTotalBytes()).isEqualTo(20L);
+        statistics.expectHeaderBytesPerRecord(26L);
+        assertThatThrownBy(() -> statistics.expectHeaderBytesPerRecord(25L))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Output output has 26.0 header bytes per record but budget is 25 bytes");
+    }
+}
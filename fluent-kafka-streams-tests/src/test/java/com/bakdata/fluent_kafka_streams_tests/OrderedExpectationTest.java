@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.WordCount;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.KeyValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OrderedExpectationTest {
+    private final WordCount app = new WordCount();
+
+    private final TestTopology<Object, String> testTopology = new TestTopology<>(this.app::getTopology,
+            WordCount.getKafkaProperties());
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldContainExactly() {
+        this.testTopology.input()
+                .add("bla")
+                .add("blub")
+                .add("bla");
+
+        this.testTopology.streamOutput().withSerde(Serdes.String(), Serdes.Long())
+                .expectContainsExactly(List.of(
+                        KeyValue.pair("bla", 1L),
+                        KeyValue.pair("blub", 1L),
+                        KeyValue.pair("bla", 2L)))
+                .expectNoMoreRecord();
+    }
+
+    @Test
+    void shouldReportInsertedAndDroppedRecordsAsHunks() {
+        this.testTopology.input()
+                .add("bla")
+                .add("blub")
+                .add("foo")
+                .add("bla");
+
+        final TestOutput<String, Long> output = this.testTopology.streamOutput()
+                .withSerde(Serdes.String(), Serdes.Long());
+        assertThatThrownBy(() -> output.expectContainsExactly(List.of(
+                KeyValue.pair("bla", 1L),
+                KeyValue.pair("blub", 1L),
+                KeyValue.pair("bar", 1L),
+                KeyValue.pair("bla", 2L))))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("1 missing, 1 unexpected")
+                .hasMessageContaining("@@ -1,4 +1,4 @@")
+                .hasMessageContaining(String.format("  {key='blub', value='1'}%n"
+                                                    + "- {key='bar', value='1'}%n"
+                                                    + "+ {key='foo', value='1'}%n"
+                                                    + "  {key='bla', value='2'}"));
+    }
+
+    @Test
+    void shouldReportDroppedRecordInLongOutput() {
+        final List<String> words = IntStream.range(0, 10_000)
+                .mapToObj(i -> "word" + i)
+                .collect(Collectors.toList());
+        words.forEach(this.testTopology.input()::add);
+        final List<KeyValue<String, Long>> expectedRecords = words.stream()
+                .map(word -> KeyValue.pair(word, 1L))
+                .collect(Collectors.toCollection(ArrayList::new));
+        expectedRecords.add(5_000, KeyValue.pair("missing", 1L));
+
+        final TestOutput<String, Long> output = this.testTopology.streamOutput()
+                .withSerde(Serdes.String(), Serdes.Long());
+        assertThatThrownBy(() -> output.expectContainsExactly(expectedRecords))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("1 missing, 0 unexpected")
+                .hasMessageContaining("@@ -4998,7 +4998,6 @@")
+                .hasMessageContaining("- {key='missing', value='1'}");
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.WordCount;
+import org.apache.kafka.common.serialization.Serdes;
+import org.assertj.core.data.Percentage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OutputStatisticsTest {
+    private final WordCount app = new WordCount();
+
+    private final TestTopology<Object, String> testTopology = new TestTopology<>(this.app::getTopology,
+            WordCount.getKafkaProperties());
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldComputeStatistics() {
+        this.testTopology.input()
+                .add("bla")
+                .add("blub")
+                .add("bla");
+
+        final OutputStatistics<String> statistics = this.testTopology.streamOutput()
+                .withSerde(Serdes.String(), Serdes.Long())
+                .stats();
+        assertThat(statistics.getRecordCount()).isEqualTo(3L);
+        assertThat(statistics.getDistinctKeyEstimate()).isEqualTo(2L);
+        assertThat(statistics.getRecordCountEstimate("bla")).isEqualTo(2L);
+        assertThat(statistics.getRecordCountEstimate("blub")).isEqualTo(1L);
+        assertThat(statistics.getHeavyKeys()).containsExactly(
+                entry("bla", 2L),
+                entry("blub", 1L));
+        assertThat(statistics.getValueSizes().getCount()).isEqualTo(3L);
+        assertThat(statistics.getValueSizes().getMax()).isEqualTo(Long.BYTES);
+        assertThat(statistics.getKeySizes().getMin()).isEqualTo(3L);
+        assertThat(statistics.getKeySizes().getMax()).isEqualTo(4L);
+    }
+
+    @Test
+    void shouldAccumulateStatistics() {
+        final TestOutput<String, Long> output = this.testTopology.streamOutput()
+                .withSerde(Serdes.String(), Serdes.Long());
+        this.testTopology.input().add("bla");
+        assertThat(output.stats().getRecordCount()).isEqualTo(1L);
+
+        this.testTopology.input().add("blub");
+        assertThat(output.stats().getRecordCount()).isEqualTo(2L);
+        output.expectNoMoreRecord();
+    }
+
+    @Test
+    void shouldEstimateManyDistinctKeys() {
+        final TestInput<Object, String> input = this.testTopology.input();
+        final int words = 20_000;
+        for (int i = 0; i < words; i++) {
+            input.add("word" + i);
+        }
+        input.add("word0");
+
+        final OutputStatistics<String> statistics = this.testTopology.streamOutput()
+                .withSerde(Serdes.String(), Serdes.Long())
+                .stats();
+        assertThat(statistics.getRecordCount()).isEqualTo(words + 1L);
+        assertThat(statistics.getDistinctKeyEstimate()).isCloseTo(words, Percentage.withPercentage(3.0));
+        assertThat(statistics.getRecordCountEstimate("word0")).isGreaterThanOrEqualTo(2L);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.WordCount;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.Serdes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OutputSubscriptionTest {
+    private final WordCount app = new WordCount();
+
+    private final TestTopology<Object, String> testTopology = new TestTopology<>(this.app::getTopology,
+            WordCount.getKafkaProperties());
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldNotifyListenerWhileProcessing() {
+        final List<ProducerRecord<String, Long>> records = new ArrayList<>();
+        this.testTopology.streamOutput().withSerde(Serdes.String(), Serdes.Long())
+                .subscribe(records::add);
+
+        final TestInput<Object, String> input = this.testTopology.input();
+        input.add("bla");
+        assertThat(records)
+                .extracting(ProducerRecord::key)
+                .containsExactly("bla");
+
+        input.add("blub bla");
+        assertThat(records)
+                .extracting(ProducerRecord::value)
+                .containsExactly(1L, 1L, 2L);
+        this.testTopology.streamOutput().expectNoMoreRecord();
+    }
+
+    @Test
+    void shouldNotifyListenersWithDifferentSerdes() {
+        final List<String> keys = new ArrayList<>();
+        final List<Long> values = new ArrayList<>();
+        this.testTopology.streamOutput().withKeySerde(Serdes.String())
+                .subscribe(producerRecord -> keys.add(producerRecord.key()));
+        this.testTopology.streamOutput().withValueSerde(Serdes.Long())
+                .subscribe(producerRecord -> values.add(producerRecord.value()));
+
+        this.testTopology.input().add("bla");
+
+        assertThat(keys).containsExactly("bla");
+        assertThat(values).containsExactly(1L);
+    }
+
+    @Test
+    void shouldNotifyListenerOfPendingRecords() {
+        this.testTopology.input().add("bla");
+
+        final List<ProducerRecord<String, Long>> records = new ArrayList<>();
+        this.testTopology.streamOutput().withSerde(Serdes.String(), Serdes.Long())
+                .subscribe(records::add);
+
+        assertThat(records).hasSize(1);
+    }
+
+    @Test
+    void shouldPropagateListenerFailure() {
+        this.testTopology.streamOutput().withSerde(Serdes.String(), Serdes.Long())
+                .subscribe(producerRecord -> assertThat(producerRecord.value()).isLessThan(2L));
+
+        final TestInput<Object, String> input = this.testTopology.input().add("bla");
+        assertThatThrownBy(() -> input.add("bla"))
+                .isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void shouldStopNotifyingClosedSubscription() {
+        final List<ProducerRecord<String, Long>> records = new ArrayList<>();
+        final TestOutput<String, Long> output = this.testTopology.streamOutput()
+                .withSerde(Serdes.String(), Serdes.Long());
+        try (final OutputSubscription ignored = output.subscribe(records::add)) {
+            this.testTopology.input().add("bla");
+        }
+        this.testTopology.input().add("blub");
+
+        assertThat(records).hasSize(1);
+        output.expectNextRecord().hasKey("blub").hasValue(1L)
+                .expectNoMoreRecord();
+    }
+}
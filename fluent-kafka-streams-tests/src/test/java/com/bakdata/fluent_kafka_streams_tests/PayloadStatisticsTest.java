@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.WordCount;
+import org.apache.kafka.common.record.CompressionType;
+import org.apache.kafka.common.serialization.Serdes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PayloadStatisticsTest {
+    private final WordCount app = new WordCount();
+
+    private final TestTopology<Object, String> testTopology = new TestTopology<Object, String>(this.app::getTopology,
+            WordCount.getKafkaProperties())
+            .withPayloadStatistics(1024);
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldMeasureSerializedSize() {
+        this.testTopology.input()
+                .add("bla")
+                .add("blub");
+
+        this.testTopology.streamOutput().withValueSerde(Serdes.Long())
+                .expectNextRecord().hasKey("bla").hasValue(1L)
+                .expectNextRecord().hasKey("blub").hasValue(1L)
+                .expectNoMoreRecord();
+
+        final TopicPayloadStatistics statistics = this.testTopology.getPayloadStatistics()
+                .getStatistics(this.app.getOutputTopic());
+        assertThat(statistics.getRecordCount()).isEqualTo(2L);
+        assertThat(statistics.getKeyBytes()).isEqualTo(7L);
+        assertThat(statistics.getValueBytes()).isEqualTo(16L);
+        assertThat(statistics.getBytesPerRecord()).isEqualTo(11.5);
+        statistics.expectBytesPerRecord(12L);
+        assertThatThrownBy(() -> statistics.expectBytesPerRecord(11L))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Output wordcount-output has 11.5 bytes per record but budget is 11 bytes");
+    }
+
+    @Test
+    void shouldNotConsumeRecords() {
+        this.testTopology.input()
+                .add("bla");
+
+        assertThat(this.testTopology.getPayloadStatistics().getTopics()).isEmpty();
+        this.testTopology.streamOutput().withValueSerde(Serdes.Long())
+                .expectNextRecord().hasKey("bla").hasValue(1L);
+        assertThat(this.testTopology.getPayloadStatistics().getTopics()).containsExactly(this.app.getOutputTopic());
+    }
+
+    @Test
+    void shouldEstimateCompressedBatches() {
+        for (int i = 0; i < 1_000; i++) {
+            this.testTopology.input().add("the quick brown fox jumps");
+        }
+        assertThat(this.testTopology.streamOutput().withValueSerde(Serdes.Long()).toList()).hasSize(5_000);
+
+        final TopicPayloadStatistics statistics = this.testTopology.getPayloadStatistics()
+                .getStatistics(this.app.getOutputTopic());
+        final CompressionEstimate uncompressed = statistics.getCompressionEstimate(CompressionType.NONE);
+        assertThat(uncompressed.getRecordCount()).isEqualTo(5_000L);
+        assertThat(uncompressed.getBatchCount()).isGreaterThan(1L);
+        assertThat(uncompressed.getCompressedBytes()).isGreaterThan(statistics.getTotalBytes());
+        final CompressionEstimate gzip = statistics.getCompressionEstimate(CompressionType.GZIP);
+        assertThat(gzip.getCompressedBytes()).isLessThan(uncompressed.getCompressedBytes());
+        assertThat(gzip.getCompressionRatio()).isGreaterThan(1.0);
+        assertThat(statistics.getCompressionEstimates()).containsKeys(CompressionType.NONE, CompressionType.GZIP);
+        statistics.expectCompressedBytesPerRecord(CompressionType.GZIP, (long) statistics.getBytesPerRecord() + 1L);
+    }
+
+    @Test
+    void shouldCloseOpenBatchWhenEstimateIsQueried() {
+        final TestOutput<Object, Long> output = this.testTopology.streamOutput().withValueSerde(Serdes.Long());
+        this.testTopology.input().add("bla");
+        output.expectNextRecord().hasKey("bla");
+        final TopicPayloadStatistics statistics = this.testTopology.getPayloadStatistics()
+                .getStatistics(this.app.getOutputTopic());
+        final long firstBatchBytes = statistics.getCompressionEstimate(CompressionType.NONE).getCompressedBytes();
+
+        this.testTopology.input().add("blub");
+        output.expectNextRecord().hasKey("blub");
+        final CompressionEstimate estimate = statistics.getCompressionEstimate(CompressionType.NONE);
+        assertThat(estimate.getRecordCount()).isEqualTo(2L);
+        assertThat(estimate.getBatchCount()).isEqualTo(2L);
+        assertThat(estimate.getCompressedBytes()).isGreaterThan(firstBatchBytes);
+    }
+
+    @Test
+    void shouldFailBudgetsWithoutRecords() {
+        this.testTopology.input()
+                .add("bla");
+
+        final TopicPayloadStatistics statistics = this.testTopology.getPayloadStatistics()
+                .getStatistics(this.app.getOutputTopic());
+        assertThatThrownBy(() -> statistics.expectBytesPerRecord(100L))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("No records have been read from output wordcount-output");
+        assertThatThrownBy(() -> statistics.expectCompressedBytesPerRecord(CompressionType.NONE, 100L))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("No records have been read from output wordcount-output");
+    }
+
+    @Test
+    void shouldRequireStatisticsToBeEnabled() {
+        final TestTopology<Object, String> topology = new TestTopology<>(this.app::getTopology,
+                WordCount.getKafkaProperties());
+        assertThatThrownBy(topology::getPayloadStatistics)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("withPayloadStatistics");
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.WordCount;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ProcessingLatencyTest {
+    private final WordCount app = new WordCount();
+
+    private final TestTopology<Object, String> testTopology = new TestTopology<>(this.app::getTopology,
+            WordCount.getKafkaProperties());
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldMeasureProcessingLatencies() {
+        final TestInput<Object, String> input = this.testTopology.input()
+                .add("bla")
+                .add("blub")
+                .add("bla");
+
+        final Histogram latencies = input.getProcessingLatencies();
+        assertThat(latencies.getCount()).isEqualTo(3L);
+        assertThat(latencies.getMin()).isPositive();
+        input.expectProcessingLatency(99.0, Duration.ofMinutes(1L));
+    }
+
+    @Test
+    void shouldShareLatenciesWithCopies() {
+        final TestInput<Object, String> input = this.testTopology.input();
+        input.withValueType(String.class)
+                .add("bla");
+
+        assertThat(input.getProcessingLatencies().getCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldResetLatencies() {
+        final TestInput<Object, String> input = this.testTopology.input()
+                .add("bla")
+                .resetProcessingLatencies()
+                .add("blub");
+
+        assertThat(input.getProcessingLatencies().getCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldFailIfBudgetIsExceeded() {
+        final TestInput<Object, String> input = this.testTopology.input()
+                .add("bla");
+
+        assertThatThrownBy(() -> input.expectProcessingLatency(99.0, Duration.ZERO))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("p99.0 processing latency of input");
+    }
+
+    @Test
+    void shouldFailWithoutRecords() {
+        final TestInput<Object, String> input = this.testTopology.input();
+
+        assertThatThrownBy(() -> input.expectProcessingLatency(99.0, Duration.ofMinutes(1L)))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("No records have been added");
+    }
+}
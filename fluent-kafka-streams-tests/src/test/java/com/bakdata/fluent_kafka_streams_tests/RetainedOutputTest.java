@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.WordCount;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.Serdes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RetainedOutputTest {
+    private static final int WORDS = 1_000;
+    private final WordCount app = new WordCount();
+
+    private final TestTopology<Object, String> testTopology = new TestTopology<>(this.app::getTopology,
+            WordCount.getKafkaProperties());
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldRetainLastAndSampledRecords() {
+        final RetainedOutput<String, Long> output = this.testTopology.streamOutput()
+                .withSerde(Serdes.String(), Serdes.Long())
+                .retain(RetentionPolicy.keepLast(10).withSampleSize(50));
+        this.addWords();
+
+        assertThat(output.getLastRecords())
+                .extracting(ProducerRecord::key)
+                .containsExactlyElementsOf(words(WORDS - 10, WORDS));
+        assertThat(output.getSampledRecords())
+                .hasSize(50)
+                .extracting(ProducerRecord::key)
+                .doesNotHaveDuplicates()
+                .isSubsetOf(words(0, WORDS - 10));
+        assertThat(output.getStatistics().getRecordCount()).isEqualTo(WORDS);
+        this.testTopology.streamOutput().expectNoMoreRecord();
+    }
+
+    @Test
+    void shouldOnlyComputeStatistics() {
+        this.testTopology.input().add("bla");
+        final RetainedOutput<String, Long> output = this.testTopology.streamOutput()
+                .withSerde(Serdes.String(), Serdes.Long())
+                .retain(RetentionPolicy.statsOnly());
+        this.addWords();
+
+        assertThat(output.getLastRecords()).isEmpty();
+        assertThat(output.getSampledRecords()).isEmpty();
+        assertThat(output.getStatistics().getRecordCount()).isEqualTo(WORDS + 1L);
+    }
+
+    @Test
+    void shouldStopRetainingWhenClosed() {
+        try (final RetainedOutput<String, Long> output = this.testTopology.streamOutput()
+                .withSerde(Serdes.String(), Serdes.Long())
+                .retain(RetentionPolicy.keepLast(1))) {
+            this.testTopology.input().add("bla");
+            assertThat(output.getLastRecords()).hasSize(1);
+        }
+        this.testTopology.input().add("blub");
+
+        this.testTopology.streamOutput().withSerde(Serdes.String(), Serdes.Long())
+                .expectNextRecord().hasKey("blub")
+                .expectNoMoreRecord();
+    }
+
+    private void addWords() {
+        final TestInput<Object, String> input = this.testTopology.input();
+        for (final String word : words(0, WORDS)) {
+            input.add(word);
+        }
+    }
+
+    private static List<String> words(final int fromInclusive, final int toExclusive) {
+        return IntStream.range(fromInclusive, toExclusive)
+                .mapToObj(i -> "word" + i)
+                .collect(Collectors.toList());
+    }
+}
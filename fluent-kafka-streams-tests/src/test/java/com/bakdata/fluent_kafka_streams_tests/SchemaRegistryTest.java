@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.CountInhabitantsWithAvro;
+import com.bakdata.fluent_kafka_streams_tests.test_types.City;
+import com.bakdata.fluent_kafka_streams_tests.test_types.Person;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SchemaRegistryTest {
+    private static final Path CITY_SCHEMA = Path.of("src/test/avro/City.avsc");
+    private static final Path PERSON_SCHEMA = Path.of("src/test/avro/Person.avsc");
+    private static final SchemaRegistry SCHEMA_REGISTRY = SchemaRegistry.shared("count-inhabitants")
+            .registerValueSchema("person-input", PERSON_SCHEMA)
+            .registerValueSchema("city-output", CITY_SCHEMA);
+
+    private final TestTopology<String, Person> testTopology =
+            new TestTopology<String, Person>(CountInhabitantsWithAvro::getTopology,
+                    CountInhabitantsWithAvro.getKafkaProperties())
+                    .withSchemaRegistry(SCHEMA_REGISTRY);
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldUsePreRegisteredSchemas() throws IOException, RestClientException {
+        this.testTopology.input()
+                .add(new Person("Huey", "City1"))
+                .add(new Person("Dewey", "City1"));
+
+        this.testTopology.tableOutput().withValueType(City.class)
+                .expectNextRecord().hasKey("City1").hasValue(new City("City1", 2))
+                .expectNoMoreRecord();
+        assertThat(this.testTopology.getProperties())
+                .containsEntry(SchemaRegistry.URL_CONFIG, "mock://count-inhabitants");
+        assertThat(SCHEMA_REGISTRY.getClient().getAllSubjects())
+                .contains("person-input-value", "city-output-value");
+        assertThat(SCHEMA_REGISTRY.register("city-output-value", CITY_SCHEMA))
+                .isEqualTo(SCHEMA_REGISTRY.getClient().getId("city-output-value",
+                        SchemaRegistry.parseSchema(CITY_SCHEMA)));
+    }
+
+    @Test
+    void shouldShareRegistryOfScope() {
+        assertThat(SchemaRegistry.shared("count-inhabitants")).isSameAs(SCHEMA_REGISTRY);
+    }
+
+    @Test
+    void shouldCacheParsedSchemas() {
+        assertThat(SchemaRegistry.parseSchema(CITY_SCHEMA)).isSameAs(SchemaRegistry.parseSchema(CITY_SCHEMA));
+    }
+
+    @Test
+    void shouldDropIsolatedScopeOnClose() throws IOException, RestClientException {
+        final SchemaRegistry schemaRegistry = SchemaRegistry.isolated();
+        schemaRegistry.registerValueSchema("city", Path.of("src/test/proto/city.proto"));
+        assertThat(schemaRegistry.getClient().getAllSubjects()).containsExactly("city-value");
+
+        schemaRegistry.close();
+
+        assertThat(schemaRegistry.getClient().getAllSubjects()).isEmpty();
+    }
+
+    @Test
+    void shouldRejectUnknownSchemaFiles() {
+        assertThatThrownBy(() -> SchemaRegistry.parseSchema(Path.of("build.gradle.kts")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported schema file");
+    }
+}
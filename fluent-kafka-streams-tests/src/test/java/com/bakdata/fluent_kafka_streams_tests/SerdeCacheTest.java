@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.WordCount;
+import com.bakdata.kafka.Preconfigured;
+import java.util.Map;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SerdeCacheTest {
+    private final WordCount app = new WordCount();
+
+    private final TestTopology<Object, String> testTopology = new TestTopology<>(this.app::getTopology,
+            WordCount.getKafkaProperties());
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldConfigureSerdeOnce() {
+        final CountingSerde serde = new CountingSerde();
+        this.testTopology.input()
+                .add("bla");
+
+        this.testTopology.streamOutput().withKeySerde(Serdes.String())
+                .configureWithValueSerde(serde)
+                .expectNextRecord().hasKey("bla").hasValue(1L);
+        this.testTopology.streamOutput().withKeySerde(Serdes.String())
+                .configureWithValueSerde(serde)
+                .expectNoMoreRecord();
+
+        assertThat(serde.getConfigureCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldConfigurePreconfiguredSerdeOnce() {
+        final CountingSerde serde = new CountingSerde();
+        final Preconfigured<Serde<Long>> preconfigured = Preconfigured.create(serde);
+        this.testTopology.streamOutput().configureWithValueSerde(preconfigured);
+        this.testTopology.streamOutput().configureWithValueSerde(preconfigured);
+
+        assertThat(serde.getConfigureCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldConfigureSeparatelyForKeysAndValues() {
+        final CountingSerde serde = new CountingSerde();
+        this.testTopology.streamOutput().configureWithKeySerde(serde);
+        this.testTopology.streamOutput().configureWithValueSerde(serde);
+
+        assertThat(serde.getConfigureCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReconfigureWhenSwitchingBetweenKeysAndValues() {
+        final CountingSerde serde = new CountingSerde();
+        this.testTopology.streamOutput().configureWithKeySerde(serde);
+        this.testTopology.streamOutput().configureWithValueSerde(serde);
+        this.testTopology.streamOutput().configureWithKeySerde(serde);
+
+        assertThat(serde.getConfigureCount()).isEqualTo(3);
+        assertThat(serde.isConfiguredForKeys()).isTrue();
+    }
+
+    @Test
+    void shouldReleaseCacheOnStop() {
+        final CountingSerde serde = new CountingSerde();
+        this.testTopology.streamOutput().configureWithValueSerde(serde);
+        this.testTopology.stop();
+        this.testTopology.start();
+        this.testTopology.streamOutput().configureWithValueSerde(serde);
+
+        assertThat(serde.getConfigureCount()).isEqualTo(2);
+    }
+
+    private static final class CountingSerde implements Serde<Long> {
+        private final Serde<Long> delegate = Serdes.Long();
+        private int configureCount;
+        private boolean configuredForKeys;
+
+        @Override
+        public void configure(final Map<String, ?> configs, final boolean isKey) {
+            this.configureCount++;
+            this.configuredForKeys = isKey;
+        }
+
+        @Override
+        public Serializer<Long> serializer() {
+            return this.delegate.serializer();
+        }
+
+        @Override
+        public Deserializer<Long> deserializer() {
+            return this.delegate.deserializer();
+        }
+
+        int getConfigureCount() {
+            return this.configureCount;
+        }
+
+        boolean isConfiguredForKeys() {
+            return this.configuredForKeys;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.WordCount;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Function;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SerdeRoundTripTest {
+    private static final Function<Random, String> RANDOM_WORD = random -> {
+        final char[] chars = new char[1 + random.nextInt(10)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    };
+    private final WordCount app = new WordCount();
+
+    private final TestTopology<Object, String> testTopology = new TestTopology<>(this.app::getTopology,
+            WordCount.getKafkaProperties());
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldProfileSerde() {
+        final SerdeProfile profile = this.testTopology.valueSerdeRoundTrip(Serdes.Long())
+                .run(1_000, Random::nextLong);
+
+        assertThat(profile.getRecordCount()).isEqualTo(1_000L);
+        assertThat(profile.getSerializedBytes()).isEqualTo(8_000L);
+        assertThat(profile.getBytesPerRecord()).isEqualTo(8.0);
+        assertThat(profile.getRoundTripThroughput()).isPositive();
+        profile.expectBytesPerRecord(8L);
+        assertThatThrownBy(() -> profile.expectBytesPerRecord(7L))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Serialized 8.0 bytes per record but budget is 7 bytes per record");
+    }
+
+    @Test
+    void shouldBeReproducible() {
+        final SerdeRoundTrip<String> roundTrip = this.testTopology.keySerdeRoundTrip(Serdes.String())
+                .withSeed(42L)
+                .withWarmup(0);
+
+        assertThat(roundTrip.run(100, RANDOM_WORD).getSerializedBytes())
+                .isEqualTo(roundTrip.run(100, RANDOM_WORD).getSerializedBytes());
+    }
+
+    @Test
+    void shouldRoundTripEdgeCases() {
+        final SerdeProfile profile = this.testTopology.valueSerdeRoundTrip(Serdes.String())
+                .run(Arrays.asList("", "äöü", "😀"));
+
+        assertThat(profile.getSerializedBytes()).isEqualTo(10L);
+    }
+
+    @Test
+    void shouldFailOnNonIdentityRoundTrip() {
+        final SerdeRoundTrip<String> roundTrip = this.testTopology.valueSerdeRoundTrip(new TruncatingSerde());
+
+        assertThatThrownBy(() -> roundTrip.run(Arrays.asList("short", "much too long")))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Serde does not round-trip all 2 values on topic serde-round-trip")
+                .hasMessageContaining("1 non-identity round-trips")
+                .hasMessageContaining("#1 much too long became much ");
+    }
+
+    @Test
+    void shouldFailOnException() {
+        final SerdeRoundTrip<String> roundTrip = this.testTopology.valueSerdeRoundTrip(new TruncatingSerde())
+                .withTopic("cities");
+
+        assertThatThrownBy(() -> roundTrip.run(Arrays.asList("ok", null)))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("on topic cities")
+                .hasMessageContaining("1 failed round-trips")
+                .hasMessageContaining("#1 null threw java.lang.NullPointerException");
+    }
+
+    @Test
+    void shouldUseCustomEquality() {
+        final SerdeProfile profile = this.testTopology.valueSerdeRoundTrip(new TruncatingSerde())
+                .withEquality((original, roundTripped) -> original.startsWith(roundTripped))
+                .run(Arrays.asList("short", "much too long"));
+
+        assertThat(profile.getRecordCount()).isEqualTo(2L);
+    }
+
+    private static final class TruncatingSerde implements Serde<String> {
+        private static final int MAX_LENGTH = 5;
+
+        @Override
+        public Serializer<String> serializer() {
+            return (topic, data) -> data.substring(0, Math.min(MAX_LENGTH, data.length()))
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Deserializer<String> deserializer() {
+            return (topic, data) -> new String(data, StandardCharsets.UTF_8);
+        }
+    }
+}
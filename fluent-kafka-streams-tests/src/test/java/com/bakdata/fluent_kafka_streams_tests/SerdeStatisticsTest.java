@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.WindowedUserClicks;
+import com.bakdata.fluent_kafka_streams_tests.test_applications.WordCount;
+import com.bakdata.fluent_kafka_streams_tests.test_types.ClickEvent;
+import org.apache.kafka.common.serialization.Serdes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SerdeStatisticsTest {
+    private final WordCount app = new WordCount();
+
+    private final TestTopology<Object, String> testTopology = new TestTopology<Object, String>(this.app::getTopology,
+            WordCount.getKafkaProperties())
+            .withSerdeStatistics();
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldMeasureInputSerialization() {
+        this.testTopology.input()
+                .add("bla")
+                .add("blub");
+
+        final TopicSerdeStatistics statistics = this.testTopology.getSerdeStatistics()
+                .getStatistics(this.app.getInputTopic());
+        assertThat(statistics.getSerializationCount()).isEqualTo(4L);
+        assertThat(statistics.getSerializedBytes()).isEqualTo(7L);
+    }
+
+    @Test
+    void shouldMeasureDefaultSerdesOfTopology() {
+        this.testTopology.input()
+                .add("bla")
+                .add("blub");
+
+        final TopicSerdeStatistics statistics = this.testTopology.getSerdeStatistics()
+                .getStatistics(this.app.getInputTopic());
+        assertThat(statistics.getDeserializationCount()).isEqualTo(4L);
+        assertThat(statistics.getDeserializedBytes()).isEqualTo(7L);
+        assertThat(statistics.getDeserializationNanos()).isPositive();
+    }
+
+    @Test
+    void shouldMeasureOutputDeserialization() {
+        this.testTopology.input()
+                .add("bla");
+
+        this.testTopology.streamOutput().withValueSerde(Serdes.Long())
+                .expectNextRecord().hasKey("bla").hasValue(1L)
+                .expectNoMoreRecord();
+
+        final TopicSerdeStatistics statistics = this.testTopology.getSerdeStatistics()
+                .getStatistics(this.app.getOutputTopic());
+        assertThat(statistics.getDeserializationCount()).isEqualTo(2L);
+        assertThat(statistics.getDeserializedBytes()).isEqualTo(11L);
+        assertThat(statistics.getSerializationCount()).isZero();
+    }
+
+    @Test
+    void shouldMeasureWindowedKeysOnce() {
+        try (final TestTopology<Integer, ClickEvent> topology = new TestTopology<Integer, ClickEvent>(
+                WindowedUserClicks::getTopology, WindowedUserClicks.getKafkaProperties())
+                .withSerdeStatistics()) {
+            topology.start();
+            topology.input().add(1, new ClickEvent(1));
+
+            assertThat(topology.streamOutput()
+                    .withValueSerde(Serdes.Long())
+                    .asWindowed(WindowedUserClicks.WINDOW_SIZE)
+                    .toList())
+                    .hasSize(1);
+
+            final TopicSerdeStatistics statistics = topology.getSerdeStatistics()
+                    .getStatistics("user-click-output");
+            assertThat(statistics.getDeserializationCount()).isEqualTo(2L);
+            assertThat(statistics.getDeserializedBytes()).isEqualTo(20L);
+        }
+    }
+
+    @Test
+    void shouldReportEmptyStatisticsForUnusedTopic() {
+        assertThat(this.testTopology.getSerdeStatistics().getStatistics("unused").getSerializationCount()).isZero();
+    }
+
+    @Test
+    void shouldRequireStatisticsToBeEnabled() {
+        final TestTopology<Object, String> topology = new TestTopology<>(this.app::getTopology,
+                WordCount.getKafkaProperties());
+        assertThatThrownBy(topology::getSerdeStatistics)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("withSerdeStatistics");
+    }
+}
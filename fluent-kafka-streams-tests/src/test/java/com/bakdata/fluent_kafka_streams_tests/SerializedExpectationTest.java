@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.WordCount;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.KeyValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SerializedExpectationTest {
+    private final WordCount app = new WordCount();
+
+    private final TestTopology<Object, String> testTopology = new TestTopology<>(this.app::getTopology,
+            WordCount.getKafkaProperties());
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldCompareBytes() {
+        this.testTopology.input()
+                .add("bla")
+                .add("blub");
+
+        this.testTopology.streamOutput().withSerde(Serdes.String(), Serdes.Long())
+                .expectNextSerializedRecord()
+                .hasKeyBytes("bla".getBytes(StandardCharsets.UTF_8))
+                .hasValueBytes(new byte[]{0, 0, 0, 0, 0, 0, 0, 1})
+                .expectNextSerializedRecord()
+                .hasKeyBytesEqualTo("blub")
+                .hasValueBytesEqualTo(1L)
+                .expectNoMoreSerializedRecord();
+    }
+
+    @Test
+    void shouldCompareBytesWithSerde() {
+        this.testTopology.input()
+                .add("bla");
+
+        this.testTopology.streamOutput()
+                .expectNextSerializedRecord()
+                .hasKeyBytesEqualTo("bla", Serdes.String())
+                .hasValueBytesEqualTo(1L, Serdes.Long());
+    }
+
+    @Test
+    void shouldFailForDifferentBytes() {
+        this.testTopology.input()
+                .add("bla");
+
+        final SerializedExpectation<String, Long> expectation =
+                this.testTopology.streamOutput().withSerde(Serdes.String(), Serdes.Long())
+                        .expectNextSerializedRecord();
+        assertThatThrownBy(() -> expectation.hasValueBytesEqualTo(2L))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("Record value bytes do not match. Expected 0x0000000000000002 (8 bytes) "
+                            + "but got 0x0000000000000001 (8 bytes)");
+    }
+
+    @Test
+    void shouldFailForMissingRecord() {
+        final SerializedExpectation<Object, String> expectation =
+                this.testTopology.streamOutput().expectNextSerializedRecord();
+        assertThatThrownBy(() -> expectation.hasKeyBytesEqualTo("bla"))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("No more records found");
+    }
+
+    @Test
+    void shouldCompareSerializedRecords() {
+        this.testTopology.input()
+                .add("bla")
+                .add("blub")
+                .add("bla");
+
+        this.testTopology.streamOutput().withSerde(Serdes.String(), Serdes.Long())
+                .expectSerializedRecords(List.of(new KeyValue<>("bla", 1L), new KeyValue<>("blub", 1L),
+                        new KeyValue<>("bla", 2L)))
+                .expectNoMoreRecord();
+    }
+
+    @Test
+    void shouldCompareSerializedRecordsWithSerdes() {
+        this.testTopology.input()
+                .add("bla");
+
+        this.testTopology.streamOutput()
+                .expectSerializedRecords(List.of(new KeyValue<>("bla", 1L)), Serdes.String(), Serdes.Long());
+    }
+
+    @Test
+    void shouldReportSerializedRecordMismatches() {
+        this.testTopology.input()
+                .add("bla")
+                .add("blub")
+                .add("foo");
+
+        final TestOutput<String, Long> output = this.testTopology.streamOutput()
+                .withSerde(Serdes.String(), Serdes.Long());
+        final List<KeyValue<String, Long>> expectedRecords = List.of(new KeyValue<>("bla", 1L),
+                new KeyValue<>("blub", 2L));
+        assertThatThrownBy(() -> output.expectSerializedRecords(expectedRecords))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Output does not contain the expected serialized records")
+                .hasMessageContaining("1 records with different bytes")
+                .hasMessageContaining("#1 expected {key='blub', value='2'} but got {key=0x626c7562 (4 bytes), "
+                                      + "value=0x0000000000000001 (8 bytes)}")
+                .hasMessageContaining("1 unexpected records")
+                .hasMessageContaining("#2 {key=0x666f6f (3 bytes), value=0x0000000000000001 (8 bytes)}");
+    }
+}
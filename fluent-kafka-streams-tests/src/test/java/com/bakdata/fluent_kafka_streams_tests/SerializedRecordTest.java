@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.WordCount;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.Serdes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SerializedRecordTest {
+    private final WordCount app = new WordCount();
+
+    private final TestTopology<Object, String> testTopology = new TestTopology<>(this.app::getTopology,
+            WordCount.getKafkaProperties());
+
+    private static ByteBuffer utf8(final String s) {
+        return ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldAddSerializedRecords() {
+        this.testTopology.input()
+                .addSerialized(null, utf8("bla"))
+                .addSerialized(null, utf8("blub"), 1L, null);
+
+        this.testTopology.streamOutput().withValueSerde(Serdes.Long())
+                .expectNextRecord().hasKey("bla").hasValue(1L)
+                .expectNextRecord().hasKey("blub").hasValue(1L)
+                .expectNoMoreRecord();
+    }
+
+    @Test
+    void shouldAddRemainingBytesOfBuffer() {
+        final ByteBuffer buffer = utf8("xxbla yy");
+        buffer.position(2).limit(5);
+        this.testTopology.input()
+                .addSerialized(null, buffer.slice());
+
+        this.testTopology.streamOutput().withValueSerde(Serdes.Long())
+                .expectNextRecord().hasKey("bla").hasValue(1L)
+                .expectNoMoreRecord();
+        assertThat(buffer.position()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReadSerializedRecords() {
+        this.testTopology.input()
+                .add("bla");
+
+        final TestOutput<String, Long> output = this.testTopology.streamOutput()
+                .withSerde(Serdes.String(), Serdes.Long());
+        final ProducerRecord<ByteBuffer, ByteBuffer> serializedRecord = output.readOneSerializedRecord();
+        assertThat(serializedRecord.key()).isEqualTo(utf8("bla"));
+        assertThat(serializedRecord.value().remaining()).isEqualTo(Long.BYTES);
+        assertThat(output.readOneSerializedRecord()).isNull();
+
+        final ProducerRecord<String, Long> deserializedRecord = output.deserialize(serializedRecord);
+        assertThat(deserializedRecord.key()).isEqualTo("bla");
+        assertThat(deserializedRecord.value()).isEqualTo(1L);
+        assertThat(serializedRecord.value().remaining()).isEqualTo(Long.BYTES);
+    }
+}
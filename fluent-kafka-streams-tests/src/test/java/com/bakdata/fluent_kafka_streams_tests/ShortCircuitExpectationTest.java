@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.WordCount;
+import java.util.List;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.KeyValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ShortCircuitExpectationTest {
+    private final WordCount app = new WordCount();
+
+    private final TestTopology<Object, String> testTopology = new TestTopology<>(this.app::getTopology,
+            WordCount.getKafkaProperties());
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldStopAtFirstMatchingRecord() {
+        this.testTopology.input()
+                .add("bla")
+                .add("blub")
+                .add("foo");
+
+        final TestOutput<String, Long> output = this.testTopology.streamOutput()
+                .withSerde(Serdes.String(), Serdes.Long());
+        output.expectAnyRecord(producerRecord -> "blub".equals(producerRecord.key()))
+                .hasValue(1L)
+                .expectNextRecord().hasKey("foo")
+                .expectNoMoreRecord();
+    }
+
+    @Test
+    void shouldFailIfNoRecordMatches() {
+        this.testTopology.input()
+                .add("bla");
+
+        final TestOutput<String, Long> output = this.testTopology.streamOutput()
+                .withSerde(Serdes.String(), Serdes.Long());
+        assertThatThrownBy(() -> output.expectAnyRecord(producerRecord -> "blub".equals(producerRecord.key())))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("No record satisfying the predicate found in 1 records");
+    }
+
+    @Test
+    void shouldOnlyReadFirstRecords() {
+        this.testTopology.input()
+                .add("bla")
+                .add("blub")
+                .add("foo");
+
+        this.testTopology.streamOutput().withSerde(Serdes.String(), Serdes.Long())
+                .expectFirst(List.of(KeyValue.pair("bla", 1L), KeyValue.pair("blub", 1L)))
+                .expectNextRecord().hasKey("foo")
+                .expectNoMoreRecord();
+    }
+
+    @Test
+    void shouldReportFirstDivergingRecord() {
+        this.testTopology.input()
+                .add("bla")
+                .add("blub");
+
+        final TestOutput<String, Long> output = this.testTopology.streamOutput()
+                .withSerde(Serdes.String(), Serdes.Long());
+        assertThatThrownBy(() -> output.expectFirst(List.of(KeyValue.pair("bla", 1L), KeyValue.pair("foo", 1L))))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("Record 1 does not match. Expected {key='foo', value='1'} but got {key='blub', value='1'}");
+        assertThatThrownBy(() -> output.expectFirst(List.of(KeyValue.pair("bla", 2L))))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("output ended after 0 records");
+    }
+
+    @Test
+    void shouldStopAtFirstForbiddenRecord() {
+        this.testTopology.input()
+                .add("bla")
+                .add("blub")
+                .add("foo");
+
+        final TestOutput<String, Long> output = this.testTopology.streamOutput()
+                .withSerde(Serdes.String(), Serdes.Long());
+        assertThatThrownBy(() -> output.expectNoRecordMatching(producerRecord -> "blub".equals(producerRecord.key())))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("Record 1 satisfies the predicate: {key='blub', value='1'}");
+        output.expectNextRecord().hasKey("foo");
+    }
+
+    @Test
+    void shouldPassIfNoRecordMatches() {
+        this.testTopology.input()
+                .add("bla");
+
+        this.testTopology.streamOutput().withSerde(Serdes.String(), Serdes.Long())
+                .expectNoRecordMatching(producerRecord -> producerRecord.value() > 1L)
+                .expectNoMoreRecord();
+    }
+}
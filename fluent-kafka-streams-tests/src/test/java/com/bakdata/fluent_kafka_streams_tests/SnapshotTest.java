@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.WordCount;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.apache.kafka.common.serialization.Serdes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SnapshotTest {
+    private final WordCount app = new WordCount();
+
+    private final TestTopology<Object, String> testTopology = new TestTopology<>(this.app::getTopology,
+            WordCount.getKafkaProperties());
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldWriteAndMatchSnapshot() throws IOException {
+        final Path snapshot = this.directory.resolve("word-count.snapshot");
+        this.testTopology.input()
+                .at(0L).add("bla")
+                .at(1L).add("blub");
+
+        this.testTopology.streamOutput().withSerde(Serdes.String(), Serdes.Long())
+                .writeSnapshot(snapshot)
+                .expectNoMoreRecord();
+        assertThat(Files.readAllLines(snapshot)).containsExactly(
+                "{\"timestamp\":0,\"key\":\"bla\",\"value\":\"1\"}",
+                "{\"timestamp\":1,\"key\":\"blub\",\"value\":\"1\"}");
+
+        this.testTopology.input()
+                .at(2L).add("bla");
+        Files.write(snapshot, List.of("{\"timestamp\":2,\"key\":\"bla\",\"value\":\"2\"}"));
+        this.testTopology.streamOutput().withSerde(Serdes.String(), Serdes.Long())
+                .matchesSnapshot(snapshot);
+    }
+
+    @Test
+    void shouldWriteByteArraysInBase64() throws IOException {
+        final Path snapshot = this.directory.resolve("word-count.snapshot");
+        this.testTopology.input()
+                .at(0L).add("bla");
+
+        this.testTopology.streamOutput().withSerde(Serdes.String(), Serdes.ByteArray())
+                .writeSnapshot(snapshot);
+        assertThat(Files.readAllLines(snapshot)).containsExactly(
+                "{\"timestamp\":0,\"key\":\"bla\",\"value\":\"AAAAAAAAAAE=\"}");
+    }
+
+    @Test
+    void shouldReportFirstDivergenceWithContext() throws IOException {
+        final Path snapshot = this.directory.resolve("word-count.snapshot");
+        Files.write(snapshot, List.of(
+                "{\"timestamp\":0,\"key\":\"bla\",\"value\":\"1\"}",
+                "{\"timestamp\":1,\"key\":\"blub\",\"value\":\"1\"}",
+                "{\"timestamp\":2,\"key\":\"bla\",\"value\":\"2\"}"));
+        this.testTopology.input()
+                .at(0L).add("bla")
+                .at(1L).add("foo")
+                .at(2L).add("bla");
+
+        final TestOutput<String, Long> output = this.testTopology.streamOutput()
+                .withSerde(Serdes.String(), Serdes.Long());
+        assertThatThrownBy(() -> output.matchesSnapshot(snapshot))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("at record 1")
+                .hasMessageContaining("    {\"timestamp\":0,\"key\":\"bla\",\"value\":\"1\"}")
+                .hasMessageContaining("  - {\"timestamp\":1,\"key\":\"blub\",\"value\":\"1\"}")
+                .hasMessageContaining("  + {\"timestamp\":1,\"key\":\"foo\",\"value\":\"1\"}");
+    }
+
+    @Test
+    void shouldReportMissingOutput() throws IOException {
+        final Path snapshot = this.directory.resolve("word-count.snapshot");
+        Files.write(snapshot, List.of(
+                "{\"timestamp\":0,\"key\":\"bla\",\"value\":\"1\"}",
+                "{\"timestamp\":1,\"key\":\"blub\",\"value\":\"1\"}"));
+        this.testTopology.input()
+                .at(0L).add("bla");
+
+        final TestOutput<String, Long> output = this.testTopology.streamOutput()
+                .withSerde(Serdes.String(), Serdes.Long());
+        assertThatThrownBy(() -> output.matchesSnapshot(snapshot))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("at record 1")
+                .hasMessageContaining("  + <end of output>");
+    }
+
+    @Test
+    void shouldFailForMissingSnapshot() {
+        final Path snapshot = this.directory.resolve("missing.snapshot");
+        this.testTopology.input()
+                .add("bla");
+
+        final TestOutput<String, Long> output = this.testTopology.streamOutput()
+                .withSerde(Serdes.String(), Serdes.Long());
+        assertThatThrownBy(() -> output.matchesSnapshot(snapshot))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining(Snapshots.UPDATE_PROPERTY);
+        assertThat(snapshot).doesNotExist();
+    }
+}
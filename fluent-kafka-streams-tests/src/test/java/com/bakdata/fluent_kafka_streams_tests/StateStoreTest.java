@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.StoreApp;
+import java.time.Instant;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.KeyValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StateStoreTest {
+    private final TestTopology<String, String> testTopology = new TestTopology<>(StoreApp::getTopology,
+            StoreApp.getKafkaProperties());
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldScanKeyValueStore() {
+        this.testTopology.input()
+                .add("user1", "a")
+                .add("user1", "b")
+                .add("user2", "c")
+                .add("other", "d");
+
+        final TestKeyValueStore<String, Long> store = this.testTopology.keyValueStore(StoreApp.COUNT_STORE);
+        store.expectValue("user1", 2L)
+                .expectNoValue("missing")
+                .expectSize(3L);
+        store.range("user1", "user2")
+                .expectEntries(List.of(KeyValue.pair("user1", 2L), KeyValue.pair("user2", 1L)));
+        store.prefixScan("user", new StringSerializer())
+                .expectCount(2L);
+        store.all()
+                .allSatisfy(entry -> entry.value > 0L);
+        assertThat(store.getApproximateSize()).isPositive();
+    }
+
+    @Test
+    void shouldReportDifferentValue() {
+        this.testTopology.input()
+                .add("user1", "a");
+
+        final TestKeyValueStore<String, Long> store = this.testTopology.keyValueStore(StoreApp.COUNT_STORE);
+        assertThatThrownBy(() -> store.expectValue("user1", 5L))
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("Expected value '5' for key 'user1' in store 'counts' but got '1'");
+        assertThatThrownBy(() -> store.range("user1", "user2").expectEntries(List.of()))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("got additional entry {key='user1', value='1'}");
+    }
+
+    @Test
+    void shouldFetchWindows() {
+        this.testTopology.input()
+                .at(0L).add("user1", "a")
+                .at(30_000L).add("user1", "b")
+                .at(70_000L).add("user1", "c");
+
+        final TestWindowStore<String, Long> store = this.testTopology.windowStore(StoreApp.WINDOWED_COUNT_STORE);
+        store.expectValue("user1", Instant.ofEpochMilli(0L), 2L)
+                .expectValue("user1", Instant.ofEpochMilli(60_000L), 1L)
+                .expectSize(2L);
+        store.fetch("user1", Instant.EPOCH, Instant.ofEpochMilli(60_000L))
+                .expectEntries(List.of(KeyValue.pair(0L, 2L), KeyValue.pair(60_000L, 1L)));
+        store.fetchAll(Instant.ofEpochMilli(60_000L), Instant.ofEpochMilli(120_000L))
+                .expectCount(1L);
+    }
+
+    @Test
+    void shouldFetchSessions() {
+        this.testTopology.input()
+                .at(0L).add("user1", "a")
+                .at(30_000L).add("user1", "b")
+                .at(300_000L).add("user1", "c");
+
+        final TestSessionStore<String, Long> store = this.testTopology.sessionStore(StoreApp.SESSION_COUNT_STORE);
+        store.expectValue("user1", Instant.EPOCH, Instant.ofEpochMilli(30_000L), 2L)
+                .expectValue("user1", Instant.ofEpochMilli(300_000L), Instant.ofEpochMilli(300_000L), 1L);
+        store.fetch("user1")
+                .expectCount(2L);
+        store.findSessions("user1", Instant.ofEpochMilli(100_000L), Instant.ofEpochMilli(400_000L))
+                .expectCount(1L);
+    }
+
+    @Test
+    void shouldLookUpVersions() {
+        this.testTopology.input()
+                .at(0L).add("user1", "a")
+                .at(1_000L).add("user1", "b");
+
+        this.testTopology.<String, String>versionedStore(StoreApp.VERSIONED_STORE)
+                .expectValue("user1", "b")
+                .expectValue("user1", Instant.ofEpochMilli(500L), "a")
+                .expectValue("user2", null);
+    }
+
+    @Test
+    void shouldThrowForMissingStore() {
+        assertThatThrownBy(() -> this.testTopology.keyValueStore("missing"))
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessage("Key-value store 'missing' not found");
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.Mirror;
+import com.bakdata.fluent_kafka_streams_tests.test_applications.WordCount;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.kafka.common.serialization.Serdes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TableDigestTest {
+    private final WordCount app = new WordCount();
+
+    private final TestTopology<Object, String> testTopology = new TestTopology<>(this.app::getTopology,
+            WordCount.getKafkaProperties());
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldEqualExpectedTable() {
+        final TestInput<Object, String> input = this.testTopology.input();
+        IntStream.range(0, 10_000).forEach(i -> input.add("word" + i % 5_000));
+        final Map<String, Long> expectedTable = IntStream.range(0, 5_000)
+                .boxed()
+                .collect(Collectors.toMap(i -> "word" + i, i -> 2L));
+
+        this.testTopology.tableOutput().withSerde(Serdes.String(), Serdes.Long())
+                .expectTableEquals(expectedTable);
+    }
+
+    @Test
+    void shouldComputeOrderIndependentDigest() {
+        this.testTopology.input()
+                .add("bla")
+                .add("blub")
+                .add("bla");
+        final TableDigest tableDigest = this.testTopology.tableOutput().withSerde(Serdes.String(), Serdes.Long())
+                .tableDigest();
+
+        final TableDigest streamDigest;
+        try (final TestTopology<Object, String> otherTopology = new TestTopology<>(new WordCount()::getTopology,
+                WordCount.getKafkaProperties())) {
+            otherTopology.start();
+            otherTopology.input()
+                    .add("blub")
+                    .add("bla")
+                    .add("bla");
+            streamDigest = otherTopology.streamOutput().withSerde(Serdes.String(), Serdes.Long())
+                    .tableDigest();
+        }
+
+        assertThat(streamDigest).isEqualTo(tableDigest);
+        assertThat(streamDigest.getSize()).isEqualTo(2L);
+        assertThat(streamDigest.getDifferingBuckets(tableDigest)).isEmpty();
+    }
+
+    @Test
+    void shouldReportDifferingEntries() {
+        final TestInput<Object, String> input = this.testTopology.input();
+        IntStream.range(0, 1_000).forEach(i -> input.add("word" + i));
+        final Map<String, Long> expectedTable = IntStream.range(0, 1_000)
+                .mapToObj(i -> "word" + i)
+                .collect(Collectors.toMap(Function.identity(), word -> 1L, (a, b) -> a, HashMap::new));
+        expectedTable.put("word1", 2L);
+        expectedTable.remove("word2");
+        expectedTable.put("missing", 1L);
+
+        final TestOutput<String, Long> output = this.testTopology.tableOutput()
+                .withSerde(Serdes.String(), Serdes.Long());
+        assertThatThrownBy(() -> output.expectTableEquals(expectedTable))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("1000 expected and 1000 actual entries")
+                .hasMessageContaining("key='word1': expected value '2' but got a different value")
+                .hasMessageContaining("unexpected entries (showing 1 of 1):")
+                .hasMessageContaining("{key='word2'}")
+                .hasMessageContaining("missing entries (showing 1 of 1):")
+                .hasMessageContaining("{key='missing', value='1'}");
+    }
+
+    @Test
+    void shouldTreatNullValuesAsAbsentKeys() {
+        this.testTopology.input()
+                .add("bla")
+                .add("blub");
+        final Map<String, Long> expectedTable = new HashMap<>();
+        expectedTable.put("bla", 1L);
+        expectedTable.put("blub", 1L);
+        expectedTable.put("deleted", null);
+
+        this.testTopology.tableOutput().withSerde(Serdes.String(), Serdes.Long())
+                .expectTableEquals(expectedTable);
+    }
+
+    @Test
+    void shouldDistinguishNullAndEmptyKeys() {
+        try (final TestTopology<String, String> mirrorTopology = new TestTopology<>(new Mirror()::getTopology,
+                Mirror.getKafkaProperties())) {
+            mirrorTopology.start();
+            mirrorTopology.input()
+                    .add(null, "bla")
+                    .add("", "blub");
+            final Map<String, String> expectedTable = new HashMap<>();
+            expectedTable.put(null, "bla");
+            expectedTable.put("", "blub");
+
+            mirrorTopology.tableOutput().expectTableEquals(expectedTable);
+        }
+    }
+
+    @Test
+    void shouldReportUnexpectedNullKey() {
+        try (final TestTopology<String, String> mirrorTopology = new TestTopology<>(new Mirror()::getTopology,
+                Mirror.getKafkaProperties())) {
+            mirrorTopology.start();
+            mirrorTopology.input()
+                    .add(null, "bla")
+                    .add("", "blub");
+
+            final TestOutput<String, String> output = mirrorTopology.tableOutput();
+            assertThatThrownBy(() -> output.expectTableEquals(Map.of("", "blub")))
+                    .isInstanceOf(AssertionError.class)
+                    .hasMessageContaining("1 expected and 2 actual entries")
+                    .hasMessageContaining("{key='null'}");
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.WordCount;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TopicHandleCacheTest {
+    private final WordCount app = new WordCount();
+
+    private final TestTopology<Object, String> testTopology = new TestTopology<>(this.app::getTopology,
+            WordCount.getKafkaProperties());
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldReuseSerializersOfInputs() {
+        final CountingSerde serde = new CountingSerde();
+        for (int i = 0; i < 10; i++) {
+            this.testTopology.input().withValueSerde(serde).add("bla");
+        }
+
+        assertThat(serde.getSerializerCount()).isEqualTo(1);
+        this.testTopology.streamOutput().withValueSerde(Serdes.Long())
+                .expectNextRecord().hasKey("bla").hasValue(1L)
+                .expectNextRecord().hasKey("bla").hasValue(2L);
+    }
+
+    @Test
+    void shouldReuseDeserializersOfOutputs() {
+        final CountingSerde serde = new CountingSerde();
+        this.testTopology.input().add("bla").add("blub");
+
+        this.testTopology.streamOutput().withKeySerde(serde)
+                .expectNextRecord().hasKey("bla");
+        this.testTopology.streamOutput().withKeySerde(serde)
+                .expectNextRecord().hasKey("blub");
+
+        assertThat(serde.getDeserializerCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReuseSerializersOfInputsWithSerdeStatistics() {
+        final CountingSerde serde = new CountingSerde();
+        try (final TestTopology<Object, String> topology = this.testTopology.withSerdeStatistics()) {
+            topology.start();
+            for (int i = 0; i < 10; i++) {
+                topology.input().withValueSerde(serde).add("bla");
+            }
+
+            assertThat(serde.getSerializerCount()).isEqualTo(1);
+            // keys are null and serialized to 0 bytes
+            assertThat(topology.getSerdeStatistics().getStatistics(this.app.getInputTopic()).getSerializedBytes())
+                    .isEqualTo(30L);
+        }
+    }
+
+    @Test
+    void shouldReuseDeserializersOfOutputsWithSerdeStatistics() {
+        final CountingSerde serde = new CountingSerde();
+        try (final TestTopology<Object, String> topology = this.testTopology.withSerdeStatistics()) {
+            topology.start();
+            topology.input().add("bla").add("blub");
+
+            topology.streamOutput().withKeySerde(serde)
+                    .expectNextRecord().hasKey("bla");
+            topology.streamOutput().withKeySerde(serde)
+                    .expectNextRecord().hasKey("blub");
+
+            assertThat(serde.getDeserializerCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldCreateNewHandlesForNewRun() {
+        final CountingSerde serde = new CountingSerde();
+        this.testTopology.input().withValueSerde(serde).add("bla");
+        this.testTopology.stop();
+        this.testTopology.start();
+        this.testTopology.input().withValueSerde(serde).add("bla");
+
+        assertThat(serde.getSerializerCount()).isEqualTo(2);
+        this.testTopology.streamOutput().withValueSerde(Serdes.Long())
+                .expectNextRecord().hasKey("bla").hasValue(1L)
+                .expectNoMoreRecord();
+    }
+
+    @Test
+    void shouldKeepTimestampPerInput() {
+        this.testTopology.input().at(1_000L).add("bla");
+        this.testTopology.input().add("blub");
+
+        final TestOutput<Object, Long> output = this.testTopology.streamOutput().withValueSerde(Serdes.Long());
+        assertThat(output.readOneRecord().timestamp()).isEqualTo(1_000L);
+        assertThat(output.readOneRecord().timestamp()).isZero();
+    }
+
+    private static final class CountingSerde implements Serde<String> {
+        private final Serde<String> delegate = Serdes.String();
+        private int serializerCount;
+        private int deserializerCount;
+
+        @Override
+        public Serializer<String> serializer() {
+            this.serializerCount++;
+            return this.delegate.serializer();
+        }
+
+        @Override
+        public Deserializer<String> deserializer() {
+            this.deserializerCount++;
+            return this.delegate.deserializer();
+        }
+
+        int getSerializerCount() {
+            return this.serializerCount;
+        }
+
+        int getDeserializerCount() {
+            return this.deserializerCount;
+        }
+    }
+}
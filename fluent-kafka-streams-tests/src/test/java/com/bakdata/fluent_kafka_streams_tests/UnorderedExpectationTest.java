@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.WordCount;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.KeyValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UnorderedExpectationTest {
+    private final WordCount app = new WordCount();
+
+    private final TestTopology<Object, String> testTopology = new TestTopology<>(this.app::getTopology,
+            WordCount.getKafkaProperties());
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldContainExactlyInAnyOrder() {
+        this.testTopology.input()
+                .add("bla")
+                .add("blub")
+                .add("bla");
+
+        this.testTopology.streamOutput().withSerde(Serdes.String(), Serdes.Long())
+                .expectContainsExactlyInAnyOrder(List.of(
+                        KeyValue.pair("bla", 2L),
+                        KeyValue.pair("blub", 1L),
+                        KeyValue.pair("bla", 1L)))
+                .expectNoMoreRecord();
+    }
+
+    @Test
+    void shouldContainInAnyOrder() {
+        this.testTopology.input()
+                .add("bla")
+                .add("blub")
+                .add("bla");
+
+        this.testTopology.streamOutput().withSerde(Serdes.String(), Serdes.Long())
+                .expectRecordsInAnyOrder(List.of(KeyValue.pair("bla", 2L)));
+    }
+
+    @Test
+    void shouldReportMissingAndUnexpectedRecords() {
+        this.testTopology.input()
+                .add("bla")
+                .add("blub");
+
+        final TestOutput<String, Long> output = this.testTopology.streamOutput()
+                .withSerde(Serdes.String(), Serdes.Long());
+        final List<KeyValue<String, Long>> expectedRecords = List.of(
+                KeyValue.pair("bla", 1L),
+                KeyValue.pair("foo", 1L),
+                KeyValue.pair("foo", 1L));
+        assertThatThrownBy(() -> output.expectContainsExactlyInAnyOrder(expectedRecords))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("1 unexpected records")
+                .hasMessageContaining("{key='blub', value='1'}")
+                .hasMessageContaining("2 missing records")
+                .hasMessageContaining("{key='foo', value='1'} (2x)");
+    }
+
+    @Test
+    void shouldBoundFailureMessage() {
+        final TestInput<Object, String> input = this.testTopology.input();
+        final List<KeyValue<String, Long>> expectedRecords = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            input.add("word" + i);
+            expectedRecords.add(KeyValue.pair("other" + i, 1L));
+        }
+
+        final TestOutput<String, Long> output = this.testTopology.streamOutput()
+                .withSerde(Serdes.String(), Serdes.Long());
+        assertThatThrownBy(() -> output.expectContainsExactlyInAnyOrder(expectedRecords))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("1000 missing records")
+                .hasMessageContaining("showing 10 of 1000")
+                .satisfies(error -> assertThat(error.getMessage().lines())
+                        .hasSizeLessThan(30));
+    }
+
+    @Test
+    void shouldContainRecordsInKeyOrder() {
+        this.testTopology.input()
+                .add("bla")
+                .add("blub")
+                .add("bla")
+                .add("blub");
+
+        this.testTopology.streamOutput().withSerde(Serdes.String(), Serdes.Long())
+                .expectRecordsInKeyOrder(List.of(
+                        KeyValue.pair("blub", 1L),
+                        KeyValue.pair("blub", 2L),
+                        KeyValue.pair("bla", 1L),
+                        KeyValue.pair("bla", 2L)))
+                .expectNoMoreRecord();
+    }
+
+    @Test
+    void shouldReportDivergingKeyOrder() {
+        this.testTopology.input()
+                .add("bla")
+                .add("blub")
+                .add("bla")
+                .add("foo");
+
+        final TestOutput<String, Long> output = this.testTopology.streamOutput()
+                .withSerde(Serdes.String(), Serdes.Long());
+        final List<KeyValue<String, Long>> expectedRecords = List.of(
+                KeyValue.pair("bla", 2L),
+                KeyValue.pair("bla", 1L),
+                KeyValue.pair("blub", 1L),
+                KeyValue.pair("blub", 2L));
+        assertThatThrownBy(() -> output.expectRecordsInKeyOrder(expectedRecords))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("1 keys with diverging records")
+                .hasMessageContaining("key='bla': expected value '2' but got '1' at position 0 of the key")
+                .hasMessageContaining("1 missing records")
+                .hasMessageContaining("key='blub': 1 records starting with value '2'")
+                .hasMessageContaining("1 unexpected records")
+                .hasMessageContaining("{key='foo', value='1'}");
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bakdata.fluent_kafka_streams_tests.test_applications.WindowedUserClicks;
+import com.bakdata.fluent_kafka_streams_tests.test_types.ClickEvent;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.serialization.Serdes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class WindowedOutputTest {
+    private static final int USER1 = 1;
+    private static final int USER2 = 2;
+
+    private final TestTopology<Integer, ClickEvent> testTopology =
+            new TestTopology<>(WindowedUserClicks::getTopology, WindowedUserClicks.getKafkaProperties());
+
+    @BeforeEach
+    void start() {
+        this.testTopology.start();
+    }
+
+    @AfterEach
+    void stop() {
+        this.testTopology.stop();
+    }
+
+    @Test
+    void shouldIndexFinalResultPerWindow() {
+        final long minute1 = TimeUnit.MINUTES.toMillis(1);
+        final long minute2 = TimeUnit.MINUTES.toMillis(2);
+        this.testTopology.input()
+                .at(minute1).add(USER1, new ClickEvent(USER1))
+                .at(minute1 + 10).add(USER1, new ClickEvent(USER1))
+                .at(minute1 + 20).add(USER2, new ClickEvent(USER2))
+                .at(minute2).add(USER1, new ClickEvent(USER1));
+
+        final WindowedOutput<Integer, Long> output = this.testTopology.streamOutput()
+                .withValueSerde(Serdes.Long())
+                .asWindowed(WindowedUserClicks.WINDOW_SIZE);
+
+        assertThat(output.getWindowStarts()).containsExactly(minute1, minute2);
+        assertThat(output.getFinalValue(minute1, USER1)).isEqualTo(2L);
+        assertThat(output.getFinalValue(minute1, USER2)).isEqualTo(1L);
+        assertThat(output.getFinalValue(minute2, USER1)).isEqualTo(1L);
+        assertThat(output.getFinalValue(minute2, USER2)).isNull();
+        assertThat(output.getWindow(minute1)).containsOnlyKeys(USER1, USER2);
+        assertThat(output.getFinalRecord(minute1, USER1).key().window().end()).isEqualTo(minute2);
+        assertThat(output.toList()).hasSize(3);
+    }
+
+    @Test
+    void shouldUpdateIndexWithNewRecords() {
+        final long minute1 = TimeUnit.MINUTES.toMillis(1);
+        final WindowedOutput<Integer, Long> output = this.testTopology.streamOutput()
+                .withValueSerde(Serdes.Long())
+                .asWindowed(Serdes.Integer(), WindowedUserClicks.WINDOW_SIZE);
+        assertThat(output.getWindowStarts()).isEmpty();
+
+        this.testTopology.input().at(minute1).add(USER1, new ClickEvent(USER1));
+        assertThat(output.getFinalValue(minute1, USER1)).isEqualTo(1L);
+
+        this.testTopology.input().at(minute1).add(USER1, new ClickEvent(USER1));
+        assertThat(output.getFinalValue(minute1, USER1)).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests.test_applications;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import org.apache.kafka.common.serialization.Serdes.StringSerde;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.Topology;
+import org.apache.kafka.streams.processor.PunctuationType;
+import org.apache.kafka.streams.processor.api.Processor;
+import org.apache.kafka.streams.processor.api.ProcessorContext;
+import org.apache.kafka.streams.processor.api.Record;
+
+@UtilityClass
+public class HeartbeatApp {
+    public static final String OUTPUT_TOPIC = "output";
+    public static final String HEARTBEAT_KEY = "heartbeat";
+    public static final Duration HEARTBEAT_INTERVAL = Duration.ofMinutes(1);
+    private static final String INPUT_TOPIC = "input";
+
+    public static Map<String, Object> getKafkaProperties() {
+        final String brokers = "localhost:9092";
+        final Map<String, Object> kafkaConfig = new HashMap<>();
+        kafkaConfig.put(StreamsConfig.APPLICATION_ID_CONFIG, "heartbeat");
+        kafkaConfig.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, brokers);
+        kafkaConfig.put(StreamsConfig.DEFAULT_KEY_SERDE_CLASS_CONFIG, StringSerde.class);
+        kafkaConfig.put(StreamsConfig.DEFAULT_VALUE_SERDE_CLASS_CONFIG, StringSerde.class);
+        return kafkaConfig;
+    }
+
+    public Topology getTopology() {
+        final StreamsBuilder builder = new StreamsBuilder();
+        builder.<String, String>stream(INPUT_TOPIC)
+                .process(HeartbeatProcessor::new)
+                .to(OUTPUT_TOPIC);
+        return builder.build();
+    }
+
+    /**
+     * Forwards all records and additionally emits a heartbeat on wall-clock time.
+     */
+    private static final class HeartbeatProcessor implements Processor<String, String, String, String> {
+        private ProcessorContext<String, String> context;
+
+        @Override
+        public void init(final ProcessorContext<String, String> context) {
+            this.context = context;
+            context.schedule(HEARTBEAT_INTERVAL, PunctuationType.WALL_CLOCK_TIME,
+                    timestamp -> context.forward(new Record<>(HEARTBEAT_KEY, "alive", timestamp)));
+        }
+
+        @Override
+        public void process(final Record<String, String> inputRecord) {
+            this.context.forward(inputRecord);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.fluent_kafka_streams_tests.test_applications;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.Serdes.StringSerde;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.Topology;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.kstream.SessionWindows;
+import org.apache.kafka.streams.kstream.TimeWindows;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.Stores;
+
+@UtilityClass
+public class StoreApp {
+    public static final String COUNT_STORE = "counts";
+    public static final String WINDOWED_COUNT_STORE = "windowed-counts";
+    public static final String SESSION_COUNT_STORE = "session-counts";
+    public static final String VERSIONED_STORE = "latest-values";
+    public static final Duration WINDOW_SIZE = Duration.ofMinutes(1);
+    public static final Duration INACTIVITY_GAP = Duration.ofMinutes(1);
+    private static final String INPUT_TOPIC = "store-input";
+    private static final String OUTPUT_TOPIC = "store-output";
+
+    public static Map<String, Object> getKafkaProperties() {
+        final String brokers = "localhost:9092";
+        final Map<String, Object> kafkaConfig = new HashMap<>();
+        kafkaConfig.put(StreamsConfig.APPLICATION_ID_CONFIG, "store-app");
+        kafkaConfig.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, brokers);
+        kafkaConfig.put(StreamsConfig.DEFAULT_KEY_SERDE_CLASS_CONFIG, StringSerde.class);
+        kafkaConfig.put(StreamsConfig.DEFAULT_VALUE_SERDE_CLASS_CONFIG, StringSerde.class);
+        return kafkaConfig;
+    }
+
+    public static Topology getTopology() {
+        final StreamsBuilder builder = new StreamsBuilder();
+        final KStream<String, String> input = builder.stream(INPUT_TOPIC);
+        input.groupByKey()
+                .count(Materialized.as(COUNT_STORE))
+                .toStream()
+                .to(OUTPUT_TOPIC, Produced.with(Serdes.String(), Serdes.Long()));
+        input.groupByKey()
+                .windowedBy(TimeWindows.ofSizeWithNoGrace(WINDOW_SIZE))
+                .count(Materialized.as(WINDOWED_COUNT_STORE));
+        input.groupByKey()
+                .windowedBy(SessionWindows.ofInactivityGapWithNoGrace(INACTIVITY_GAP))
+                .count(Materialized.as(SESSION_COUNT_STORE));
+        input.toTable(Materialized.<String, String, KeyValueStore<Bytes, byte[]>>as(
+                Stores.persistentVersionedKeyValueStore(VERSIONED_STORE, Duration.ofHours(1))));
+        return builder.build();
+    }
+}